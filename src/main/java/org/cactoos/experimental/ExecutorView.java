@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * View of a shared executor, which releases its reference to the
+ * executor, instead of shutting it down.
+ *
+ * <p>After {@link #shutdown()} the view rejects new tasks, while the
+ * tasks submitted before keep running in the shared executor. The view
+ * is terminated when all of them are finished. {@link #shutdownNow()}
+ * doesn't interrupt them, since they are in the queue of the shared
+ * executor, together with the tasks of others.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class ExecutorView extends AbstractExecutorService {
+
+    /**
+     * The shared executor.
+     */
+    private final Executor origin;
+
+    /**
+     * Release of the reference.
+     */
+    private final Runnable release;
+
+    /**
+     * Is it shut down?
+     */
+    private final AtomicBoolean shut;
+
+    /**
+     * Number of tasks submitted and not finished yet.
+     */
+    private final AtomicInteger active;
+
+    /**
+     * Is it terminated?
+     */
+    private final CountDownLatch terminated;
+
+    /**
+     * Ctor.
+     * @param origin The shared executor
+     * @param release Release of the reference
+     */
+    ExecutorView(final Executor origin, final Runnable release) {
+        super();
+        this.origin = origin;
+        this.release = release;
+        this.shut = new AtomicBoolean();
+        this.active = new AtomicInteger();
+        this.terminated = new CountDownLatch(1);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.active.incrementAndGet();
+        if (this.shut.get()) {
+            this.finished();
+            throw new RejectedExecutionException(
+                "The view of the shared executor is shut down"
+            );
+        }
+        try {
+            this.origin.execute(
+                () -> {
+                    try {
+                        task.run();
+                    } finally {
+                        this.finished();
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            this.finished();
+            throw ex;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.shut.compareAndSet(false, true)) {
+            this.release.run();
+            if (this.active.get() == 0) {
+                this.terminated.countDown();
+            }
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shut.get();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.terminated.getCount() == 0L;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        return this.terminated.await(timeout, unit);
+    }
+
+    /**
+     * A task is finished.
+     */
+    private void finished() {
+        if (this.active.decrementAndGet() == 0 && this.shut.get()) {
+            this.terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Execution of tasks for {@link Threads}, which stops as soon as one
+ * of the tasks fails.
+ *
+ * <p>When a task throws, all other tasks still running are cancelled
+ * and interrupted, and the exception is thrown right away, without
+ * waiting for them:</p>
+ *
+ * <pre>{@code
+ * new Threads<>(
+ *     new FailFast<>(executor),
+ *     new IterableOf<Scalar<String>>(
+ *         () -> http.get("https://www.cactoos.org"),
+ *         () -> http.get("https://www.yegor256.com")
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item
+ * @since 1.0
+ */
+public final class FailFast<T> implements
+    Func<Iterable<Callable<T>>, Iterable<Future<T>>> {
+
+    /**
+     * Factory of the service.
+     */
+    private final Scalar<? extends ExecutorService> service;
+
+    /**
+     * Shut down the service when it's done.
+     */
+    private final boolean shut;
+
+    /**
+     * Ctor.
+     * @param threads The quantity of threads of a pool, which is made
+     *  for every execution and shut down after it
+     */
+    public FailFast(final int threads) {
+        this(() -> Executors.newFixedThreadPool(threads));
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}, which
+     *  is made for every execution and shut down after it
+     */
+    public FailFast(final Scalar<? extends ExecutorService> executors) {
+        this(executors, true);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor, which is not shut down
+     */
+    public FailFast(final ExecutorService exc) {
+        this(() -> exc, false);
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}
+     * @param sht Shut it down
+     */
+    private FailFast(final Scalar<? extends ExecutorService> executors,
+        final boolean sht) {
+        this.service = executors;
+        this.shut = sht;
+    }
+
+    @Override
+    public Iterable<Future<T>> apply(final Iterable<Callable<T>> tasks)
+        throws Exception {
+        final ExecutorService executor = this.service.value();
+        final CompletionService<T> done =
+            new ExecutorCompletionService<>(executor);
+        final Collection<Future<T>> futures = new LinkedList<>();
+        boolean complete = false;
+        try {
+            for (final Callable<T> task : tasks) {
+                futures.add(done.submit(task));
+            }
+            for (int idx = 0; idx < futures.size(); ++idx) {
+                done.take().get();
+            }
+            complete = true;
+        } finally {
+            if (!complete) {
+                for (final Future<T> future : futures) {
+                    future.cancel(true);
+                }
+            }
+            if (this.shut) {
+                executor.shutdown();
+            }
+        }
+        return futures;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Repeated;
+
+/**
+ * Execution of tasks for {@link Threads}, which gives their results
+ * in the order they complete.
+ *
+ * <p>By default, {@link Threads} gives the results in the order of the
+ * tasks, so a slow first task holds back all results behind it. With
+ * this class, a result is available as soon as its task is done, and
+ * may be processed while other tasks are still running:</p>
+ *
+ * <pre>{@code
+ * for (final String page : new Threads<>(
+ *     new InCompletionOrder<>(executor),
+ *     new Mapped<Scalar<String>>(url -> () -> http.get(url), urls)
+ * )) {
+ *     save(page);
+ * }
+ * }</pre>
+ *
+ * <p>The iterable returned by {@link #apply(Iterable)} may be iterated
+ * only once, since it takes the futures as they complete; {@link Threads}
+ * executes the tasks again for every iteration.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item
+ * @since 1.0
+ */
+public final class InCompletionOrder<T> implements
+    Func<Iterable<Callable<T>>, Iterable<Future<T>>> {
+
+    /**
+     * Factory of the service.
+     */
+    private final Scalar<? extends ExecutorService> service;
+
+    /**
+     * Shut down the service when all tasks are submitted.
+     */
+    private final boolean shut;
+
+    /**
+     * Ctor.
+     * @param threads The quantity of threads of a pool, which is made
+     *  for every execution and shut down when its tasks are done
+     */
+    public InCompletionOrder(final int threads) {
+        this(() -> Executors.newFixedThreadPool(threads));
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}, which
+     *  is made for every execution and shut down when its tasks are done
+     */
+    public InCompletionOrder(
+        final Scalar<? extends ExecutorService> executors) {
+        this(executors, true);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor, which is not shut down
+     */
+    public InCompletionOrder(final ExecutorService exc) {
+        this(() -> exc, false);
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}
+     * @param sht Shut it down
+     */
+    private InCompletionOrder(
+        final Scalar<? extends ExecutorService> executors,
+        final boolean sht) {
+        this.service = executors;
+        this.shut = sht;
+    }
+
+    @Override
+    public Iterable<Future<T>> apply(final Iterable<Callable<T>> tasks)
+        throws Exception {
+        final ExecutorService executor = this.service.value();
+        final CompletionService<T> done =
+            new ExecutorCompletionService<>(executor);
+        int count = 0;
+        try {
+            for (final Callable<T> task : tasks) {
+                done.submit(task);
+                ++count;
+            }
+        } finally {
+            if (this.shut) {
+                executor.shutdown();
+            }
+        }
+        return new Repeated<>(count, done::take);
+    }
+}
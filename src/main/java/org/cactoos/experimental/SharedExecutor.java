@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Pool of threads, shared by many users, which is shut down when the
+ * last of them is done with it.
+ *
+ * <p>Classes like {@link Threads} or
+ * {@link org.cactoos.scalar.AndInThreads} make an executor for every
+ * calculation and shut it down after it, when they get a factory of
+ * executors. Give them this pool instead, and they will reuse its
+ * threads, which are started once:</p>
+ *
+ * <pre>{@code
+ * try (SharedExecutor pool = new SharedExecutor(8, "fetch")) {
+ *     for (final Request request : requests) {
+ *         new AndInThreads(pool, checks(request)).value();
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Every call to {@link #value()} takes a reference to the pool and
+ * returns a view of it, whose {@link ExecutorService#shutdown()}
+ * releases the reference. The pool itself is shut down, when it is
+ * closed and all views are shut down. Its threads are daemons, named
+ * after the pool and numbered.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class SharedExecutor implements Scalar<ExecutorService>,
+    AutoCloseable {
+
+    /**
+     * The pool.
+     */
+    private final Unchecked<ThreadPoolExecutor> pool;
+
+    /**
+     * Is the pool made?
+     */
+    private final AtomicBoolean made;
+
+    /**
+     * Number of references to the pool.
+     */
+    private final AtomicInteger refs;
+
+    /**
+     * Is it closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param threads Number of threads
+     * @param name Name of the threads
+     */
+    public SharedExecutor(final int threads, final String name) {
+        this.made = new AtomicBoolean();
+        this.pool = new Unchecked<>(
+            new Solid<>(
+                () -> {
+                    final AtomicInteger number = new AtomicInteger();
+                    final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                        threads, threads, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            final Thread thread = new Thread(
+                                runnable,
+                                String.join(
+                                    "-", name,
+                                    Integer.toString(number.incrementAndGet())
+                                )
+                            );
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    );
+                    executor.prestartAllCoreThreads();
+                    this.made.set(true);
+                    return executor;
+                }
+            )
+        );
+        this.refs = new AtomicInteger(1);
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public ExecutorService value() {
+        final int before = this.refs.getAndUpdate(
+            current -> {
+                int next = current;
+                if (current > 0) {
+                    next = current + 1;
+                }
+                return next;
+            }
+        );
+        if (before == 0) {
+            throw new IllegalStateException("The shared executor is closed");
+        }
+        return new ExecutorView(this.pool.value(), this::release);
+    }
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.release();
+        }
+    }
+
+    /**
+     * Release a reference to the pool.
+     */
+    private void release() {
+        if (this.refs.decrementAndGet() == 0 && this.made.get()) {
+            this.pool.value().shutdown();
+        }
+    }
+}
@@ -22,6 +22,15 @@ import org.cactoos.scalar.CallableOf;
 /**
  * Allows to execute the tasks concurrently, optionally within given timeout.
  *
+ * <p>By default, all tasks run to their end, even if some of them fail.
+ * To cancel all tasks as soon as one of them fails, use
+ * {@link FailFast}. The results come in the order of the tasks, to get
+ * them in the order the tasks complete, use {@link InCompletionOrder}.</p>
+ *
+ * <p>With a number of threads or a factory of executors, every iteration
+ * starts a new pool and shuts it down. To reuse the same threads across
+ * iterations, give it a {@link SharedExecutor}.</p>
+ *
  * @param <T> The type of task result item.
  * @since 1.0.0
  */
@@ -65,11 +74,40 @@ public final class Threads<T> extends IterableEnvelope<T> {
      * @param tasks The tasks to be executed concurrently.
      */
     public Threads(final int threads, final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(() -> Executors.newFixedThreadPool(threads), tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}, which is
+     *  made for every iteration and shut down after it, for example
+     *  {@link VirtualThreads} or
+     *  {@link SharedExecutor}.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Threads(
+        final Scalar<? extends ExecutorService> executors,
+        final Scalar<? extends T>... tasks
+    ) {
+        this(executors, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}, which is
+     *  made for every iteration and shut down after it, for example
+     *  {@link VirtualThreads} or
+     *  {@link SharedExecutor}.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Threads(
+        final Scalar<? extends ExecutorService> executors,
+        final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
         this(
             todo -> {
-                final ExecutorService executor = Executors.newFixedThreadPool(
-                    threads
-                );
+                final ExecutorService executor = executors.value();
                 try {
                     return executor.invokeAll(new ListOf<>(todo));
                 } finally {
@@ -144,12 +182,27 @@ public final class Threads<T> extends IterableEnvelope<T> {
         final int threads,
         final Duration timeout,
         final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
+        this(() -> Executors.newFixedThreadPool(threads), timeout, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param executors The factory of the {@link ExecutorService}, which is
+     *  made for every iteration and shut down after it, for example
+     *  {@link VirtualThreads} or
+     *  {@link SharedExecutor}.
+     * @param timeout The maximum time to wait.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Threads(
+        final Scalar<? extends ExecutorService> executors,
+        final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks
     ) {
         this(
             todo -> {
-                final ExecutorService executor = Executors.newFixedThreadPool(
-                    threads
-                );
+                final ExecutorService executor = executors.value();
                 try {
                     return executor.invokeAll(
                         new ListOf<>(todo),
@@ -165,10 +218,25 @@ public final class Threads<T> extends IterableEnvelope<T> {
 
     /**
      * Ctor.
-     * @param fnc The function to map each task into {@link Future}.
+     * @param fnc The function to map each task into {@link Future}, for
+     *  example {@link FailFast} or {@link InCompletionOrder}.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Threads(
+        final Func<Iterable<Callable<T>>, Iterable<Future<T>>> fnc,
+        final Scalar<? extends T>... tasks
+    ) {
+        this(fnc, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The function to map each task into {@link Future}, for
+     *  example {@link FailFast} or {@link InCompletionOrder}.
      * @param tasks The tasks to be executed concurrently.
      */
-    private Threads(
+    public Threads(
         final Func<Iterable<Callable<T>>, Iterable<Future<T>>> fnc,
         final Iterable<? extends Scalar<? extends T>> tasks
     ) {
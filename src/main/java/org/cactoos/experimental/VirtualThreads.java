@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+
+/**
+ * Executor that starts a new virtual thread for every task.
+ *
+ * <p>Virtual threads are cheap, so thousands of blocking tasks, like
+ * calls over the network, may run at once, without a pool to limit
+ * them. Use it with {@link org.cactoos.func.Async},
+ * {@link org.cactoos.scalar.AndInThreads},
+ * {@link org.cactoos.proc.ForEachInThreads} and
+ * {@link Threads}:</p>
+ *
+ * <pre>{@code
+ * new AndInThreads(
+ *     new VirtualThreads(),
+ *     new Mapped<>(url -> () -> ping(url), urls)
+ * ).value();
+ * }</pre>
+ *
+ * <p>Virtual threads came in Java 21, while this library runs on Java 8
+ * too, so the executor is found at runtime. On older JDKs, it is an
+ * executor that starts a new platform thread for every task, which
+ * behaves the same way, but costs more.</p>
+ *
+ * <p>Every call makes a new executor, which has to be shut down.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class VirtualThreads implements Scalar<ExecutorService> {
+
+    @Override
+    public ExecutorService value() {
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            executor = new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS,
+                new SynchronousQueue<>()
+            );
+        }
+        return executor;
+    }
+}
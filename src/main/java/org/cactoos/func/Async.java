@@ -21,6 +21,14 @@ import org.cactoos.Proc;
  *   input -&gt; input.length()
  * ).apply("Hello, world!").get();</pre>
  *
+ * <p>By default, all calls run in one thread, one after another. To run
+ * every call in its own virtual thread, give it the executor of
+ * {@link org.cactoos.experimental.VirtualThreads}:</p>
+ *
+ * <pre> new Async&lt;&gt;(
+ *   input -&gt; http.get(input), new VirtualThreads().value()
+ * ).apply("https://www.cactoos.org");</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
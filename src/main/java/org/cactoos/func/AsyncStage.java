@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Func;
+import org.cactoos.Proc;
+
+/**
+ * Func that runs in the background and returns a {@link CompletableFuture}.
+ *
+ * <p>Unlike {@link Async}, the result may be composed without blocking
+ * any thread, for example with {@link ChainedStage} and
+ * {@link TimedStage}:</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<Integer> length = new TimedStage<>(
+ *     new ChainedStage<>(
+ *         new AsyncStage<>(url -> http.get(url), executor),
+ *         page -> page.length()
+ *     ),
+ *     Duration.ofSeconds(5L)
+ * ).apply("https://www.cactoos.org");
+ * }</pre>
+ *
+ * <p>If the function throws, the future completes exceptionally with
+ * that exception. The same happens if the executor rejects the task.</p>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class AsyncStage<X, Y> implements
+    Func<X, CompletableFuture<Y>>, Proc<X> {
+
+    /**
+     * The func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     */
+    public AsyncStage(final Func<X, Y> fnc) {
+        this(fnc, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param exec Executor
+     */
+    public AsyncStage(final Func<X, Y> fnc, final Executor exec) {
+        this.func = fnc;
+        this.executor = exec;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletableFuture<Y> future = new CompletableFuture<>();
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        future.complete(this.func.apply(input));
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception ex) {
+                        future.completeExceptionally(ex);
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public void exec(final X input) {
+        this.apply(input);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Delay before the next attempt of {@link Retry} or {@link RetryStage}.
+ *
+ * <pre>{@code
+ * new Retry<>(
+ *     url -> new TextOf(url).asString(),
+ *     5,
+ *     new Backoff.Decorrelated(
+ *         Duration.ofMillis(100L), Duration.ofSeconds(10L)
+ *     )
+ * ).apply(new URL("https://www.example.com"));
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public interface Backoff {
+
+    /**
+     * Delay before the next attempt.
+     * @param attempt Number of the attempt that failed, starting from zero
+     * @param previous Previous delay, or {@link Duration#ZERO} if none
+     * @return The delay
+     */
+    Duration delay(int attempt, Duration previous);
+
+    /**
+     * The same delay every time.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Fixed implements Backoff {
+
+        /**
+         * The delay.
+         */
+        private final Duration wait;
+
+        /**
+         * Ctor.
+         * @param wait The delay
+         */
+        public Fixed(final Duration wait) {
+            this.wait = wait;
+        }
+
+        @Override
+        public Duration delay(final int attempt, final Duration previous) {
+            return this.wait;
+        }
+    }
+
+    /**
+     * Delay that doubles after every attempt, up to a cap.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Exponential implements Backoff {
+
+        /**
+         * Delay after the first attempt.
+         */
+        private final Duration base;
+
+        /**
+         * Maximum delay.
+         */
+        private final Duration cap;
+
+        /**
+         * Ctor.
+         * @param base Delay after the first attempt
+         * @param cap Maximum delay
+         */
+        public Exponential(final Duration base, final Duration cap) {
+            this.base = base;
+            this.cap = cap;
+        }
+
+        @Override
+        public Duration delay(final int attempt, final Duration previous) {
+            final long nanos = this.base.toNanos();
+            final long limit = this.cap.toNanos();
+            final Duration delay;
+            // @checkstyle MagicNumberCheck (1 line)
+            if (attempt >= 62 || nanos > limit >> attempt) {
+                delay = this.cap;
+            } else {
+                delay = Duration.ofNanos(nanos << attempt);
+            }
+            return delay;
+        }
+    }
+
+    /**
+     * Delay with "decorrelated jitter": random between the base and
+     * three times the previous delay, up to a cap.
+     *
+     * <p>Since every caller picks its own random delay, a burst of
+     * failures doesn't turn into a burst of retries at the same
+     * moment.</p>
+     *
+     * <p>Objects of this class are thread safe, if the random is.</p>
+     *
+     * @since 1.0
+     */
+    final class Decorrelated implements Backoff {
+
+        /**
+         * The shortest delay.
+         */
+        private final Duration base;
+
+        /**
+         * Maximum delay.
+         */
+        private final Duration cap;
+
+        /**
+         * Source of randomness.
+         */
+        private final Random random;
+
+        /**
+         * Ctor.
+         * @param base The shortest delay
+         * @param cap Maximum delay
+         */
+        public Decorrelated(final Duration base, final Duration cap) {
+            this(base, cap, new Random());
+        }
+
+        /**
+         * Ctor.
+         * @param base The shortest delay
+         * @param cap Maximum delay
+         * @param random Source of randomness
+         */
+        public Decorrelated(final Duration base, final Duration cap,
+            final Random random) {
+            this.base = base;
+            this.cap = cap;
+            this.random = random;
+        }
+
+        @Override
+        public Duration delay(final int attempt, final Duration previous) {
+            final long low = this.base.toNanos();
+            final long limit = this.cap.toNanos();
+            long high = Math.max(low, previous.toNanos());
+            // @checkstyle MagicNumberCheck (1 line)
+            if (high > limit / 3L) {
+                high = limit;
+            } else {
+                // @checkstyle MagicNumberCheck (1 line)
+                high = high * 3L;
+            }
+            long delay = low;
+            if (high > low) {
+                delay = low + (long) (this.random.nextDouble() * (high - low));
+            }
+            return Duration.ofNanos(Math.min(delay, limit));
+        }
+    }
+}
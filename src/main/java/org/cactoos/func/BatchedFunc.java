@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.cactoos.Func;
+
+/**
+ * Func that collects single calls from many threads into batches,
+ * for a function that takes many keys at once.
+ *
+ * <p>Every call waits until the batch with its key is done, see
+ * {@link BatchedStage} for details:</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new BatchedFunc<>(
+ *     ids -> remote.users(ids),
+ *     100,
+ *     Duration.ofMillis(5L)
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe, if the batch function is.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 1.0
+ */
+public final class BatchedFunc<K, V> implements Func<K, V> {
+
+    /**
+     * Batches.
+     */
+    private final Func<K, CompletableFuture<V>> stage;
+
+    /**
+     * Ctor.
+     * @param fnc Batch function
+     * @param max Maximum number of keys in a batch
+     * @param window Time window
+     */
+    public BatchedFunc(final Func<List<K>, Map<K, V>> fnc, final int max,
+        final Duration window) {
+        this(new BatchedStage<>(fnc, max, window));
+    }
+
+    /**
+     * Ctor.
+     * @param stage Batches
+     */
+    public BatchedFunc(final BatchedStage<K, V> stage) {
+        this.stage = stage;
+    }
+
+    @Override
+    public V apply(final K key) throws Exception {
+        try {
+            return this.stage.apply(key).get();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
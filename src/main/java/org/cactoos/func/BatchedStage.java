@@ -0,0 +1,236 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Func that collects single calls into batches, for a function that
+ * takes many keys at once.
+ *
+ * <p>Calls that come within the time window are collected, until there
+ * are enough of them for a batch; then the batch function is called
+ * once, in the executor, with all distinct keys collected, and every
+ * future is completed with the value of its key:</p>
+ *
+ * <pre>{@code
+ * final Func<String, CompletableFuture<User>> users = new BatchedStage<>(
+ *     ids -> remote.users(ids),
+ *     100,
+ *     Duration.ofMillis(5L)
+ * );
+ * }</pre>
+ *
+ * <p>If the batch function fails, the futures of all keys in the batch
+ * complete with its exception. If there is no value for a key in the
+ * map it returns, the future of the key completes with
+ * {@link IllegalStateException}, and if it returns NULL instead of a
+ * map, the futures of all keys in the batch do. By default, batches are
+ * called in the common {@link ForkJoinPool} and all instances of this
+ * class share one scheduler of time windows, with one daemon thread.</p>
+ *
+ * <p>Objects of this class are thread safe, if the batch function is.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see BatchedFunc
+ * @since 1.0
+ */
+public final class BatchedStage<K, V> implements
+    Func<K, CompletableFuture<V>> {
+
+    /**
+     * Batch function.
+     */
+    private final Func<List<K>, Map<K, V>> batch;
+
+    /**
+     * Maximum number of keys in a batch.
+     */
+    private final int max;
+
+    /**
+     * Time window.
+     */
+    private final Duration window;
+
+    /**
+     * Executor of batches.
+     */
+    private final Executor executor;
+
+    /**
+     * Scheduler of time windows.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Keys collected so far, with their futures.
+     */
+    private Map<K, List<CompletableFuture<V>>> pending;
+
+    /**
+     * Ctor.
+     * @param fnc Batch function
+     * @param max Maximum number of keys in a batch
+     * @param window Time window
+     */
+    public BatchedStage(final Func<List<K>, Map<K, V>> fnc, final int max,
+        final Duration window) {
+        this(
+            fnc, max, window, ForkJoinPool.commonPool(),
+            new SharedScheduler().value()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Batch function
+     * @param max Maximum number of keys in a batch
+     * @param window Time window
+     * @param exec Executor of batches
+     * @param timer Scheduler of time windows
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BatchedStage(final Func<List<K>, Map<K, V>> fnc, final int max,
+        final Duration window, final Executor exec,
+        final ScheduledExecutorService timer) {
+        this.batch = fnc;
+        this.max = max;
+        this.window = window;
+        this.executor = exec;
+        this.scheduler = timer;
+        this.lock = new Object();
+        this.pending = new LinkedHashMap<>(0);
+    }
+
+    @Override
+    public CompletableFuture<V> apply(final K key) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        Map<K, List<CompletableFuture<V>>> full = null;
+        synchronized (this.lock) {
+            final Map<K, List<CompletableFuture<V>>> current = this.pending;
+            boolean timed = true;
+            if (current.isEmpty()) {
+                timed = this.schedule(current);
+            }
+            current.computeIfAbsent(key, k -> new LinkedList<>()).add(future);
+            if (!timed || current.size() >= this.max) {
+                full = current;
+                this.pending = new LinkedHashMap<>(0);
+            }
+        }
+        if (full != null) {
+            this.dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * Dispatch the keys at the end of the time window, unless they
+     * are dispatched already.
+     * @param keys The keys collected in the window
+     * @return FALSE if the scheduler rejected it
+     */
+    private boolean schedule(final Map<K, List<CompletableFuture<V>>> keys) {
+        boolean scheduled = true;
+        try {
+            this.scheduler.schedule(
+                () -> {
+                    boolean due = false;
+                    synchronized (this.lock) {
+                        if (this.pending == keys) {
+                            this.pending = new LinkedHashMap<>(0);
+                            due = true;
+                        }
+                    }
+                    if (due) {
+                        this.dispatch(keys);
+                    }
+                },
+                this.window.toNanos(),
+                TimeUnit.NANOSECONDS
+            );
+        } catch (final RejectedExecutionException ex) {
+            scheduled = false;
+        }
+        return scheduled;
+    }
+
+    /**
+     * Call the batch function and complete the futures.
+     * @param keys The keys with their futures
+     */
+    private void dispatch(final Map<K, List<CompletableFuture<V>>> keys) {
+        new AsyncStage<>(this.batch, this.executor)
+            .apply(new ArrayList<>(keys.keySet()))
+            .whenComplete(
+                (values, error) -> {
+                    Throwable failure = error;
+                    if (failure == null && values == null) {
+                        failure = new IllegalStateException(
+                            "The batch function returned NULL instead of a map"
+                        );
+                    }
+                    for (final Map.Entry<K, List<CompletableFuture<V>>> entry
+                        : keys.entrySet()) {
+                        for (final CompletableFuture<V> future
+                            : entry.getValue()) {
+                            BatchedStage.complete(
+                                future, entry.getKey(), values, failure
+                            );
+                        }
+                    }
+                }
+            );
+    }
+
+    /**
+     * Complete the future of a key.
+     * @param future The future
+     * @param key The key
+     * @param values Values of the batch
+     * @param error Error of the batch or NULL
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    private static <K, V> void complete(final CompletableFuture<V> future,
+        final K key, final Map<K, V> values, final Throwable error) {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else if (values.containsKey(key)) {
+            future.complete(values.get(key));
+        } else {
+            future.completeExceptionally(
+                new IllegalStateException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "No value for the key \"%s\" in the batch", key
+                        )
+                    ).asString()
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Limit of concurrent calls, which may be shared by many functions
+ * calling the same dependency.
+ *
+ * <p>When all permits are taken, a few calls may wait for a permit,
+ * up to a timeout, while all others fail right away with
+ * {@link BulkheadFullException}. This way one slow dependency
+ * can't occupy all threads of a pool. Permits are given in the order
+ * of calls, a new call doesn't take a permit ahead of the ones waiting
+ * for it:</p>
+ *
+ * <pre>{@code
+ * final Bulkhead bulkhead = new Bulkhead(10, 5, Duration.ofMillis(100L));
+ * final Func<String, Future<User>> users = new Async<>(
+ *     new BulkheadFunc<>(id -> remote.user(id), bulkhead),
+ *     executor
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see BulkheadFunc
+ * @since 1.0
+ */
+public final class Bulkhead {
+
+    /**
+     * Maximum number of concurrent calls.
+     */
+    private final int max;
+
+    /**
+     * Permits.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Maximum number of calls waiting for a permit.
+     */
+    private final int queue;
+
+    /**
+     * How long a call may wait for a permit.
+     */
+    private final Duration wait;
+
+    /**
+     * Number of calls waiting for a permit now.
+     */
+    private final AtomicInteger waiting;
+
+    /**
+     * Number of rejected calls.
+     */
+    private final LongAdder rejections;
+
+    /**
+     * Ctor.
+     * @param max Maximum number of concurrent calls
+     */
+    public Bulkhead(final int max) {
+        this(max, 0, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     * @param max Maximum number of concurrent calls
+     * @param queue Maximum number of calls waiting for a permit
+     * @param wait How long a call may wait for a permit
+     */
+    public Bulkhead(final int max, final int queue, final Duration wait) {
+        this.max = max;
+        this.permits = new Semaphore(max, true);
+        this.queue = queue;
+        this.wait = wait;
+        this.waiting = new AtomicInteger();
+        this.rejections = new LongAdder();
+    }
+
+    /**
+     * Call the dependency, if there is a permit.
+     * @param call The call
+     * @param <T> Type of result
+     * @return The result
+     * @throws Exception If the call fails or is rejected
+     */
+    public <T> T call(final Scalar<? extends T> call) throws Exception {
+        if (!this.permits.tryAcquire(0L, TimeUnit.NANOSECONDS)
+            && !this.queued()) {
+            this.rejections.increment();
+            throw new BulkheadFullException(
+                new UncheckedText(
+                    new FormattedText(
+                        "All %d permits are taken", this.max
+                    )
+                ).asString()
+            );
+        }
+        final T result;
+        try {
+            result = call.value();
+        } finally {
+            this.permits.release();
+        }
+        return result;
+    }
+
+    /**
+     * Number of calls in flight now.
+     * @return Number of calls
+     */
+    public int inFlight() {
+        return this.max - this.permits.availablePermits();
+    }
+
+    /**
+     * Number of calls rejected so far.
+     * @return Number of calls
+     */
+    public long rejected() {
+        return this.rejections.sum();
+    }
+
+    /**
+     * Wait for a permit in the queue, if there is room in it.
+     * @return TRUE if the permit is taken
+     * @throws InterruptedException If interrupted
+     */
+    private boolean queued() throws InterruptedException {
+        boolean taken = false;
+        if (this.waiting.incrementAndGet() <= this.queue) {
+            try {
+                taken = this.permits.tryAcquire(
+                    this.wait.toNanos(), TimeUnit.NANOSECONDS
+                );
+            } finally {
+                this.waiting.decrementAndGet();
+            }
+        } else {
+            this.waiting.decrementAndGet();
+        }
+        return taken;
+    }
+}
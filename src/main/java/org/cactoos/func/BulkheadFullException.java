@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Call rejected, since all permits of a {@link Bulkhead} were taken.
+ *
+ * @since 1.0
+ */
+public final class BulkheadFullException extends IllegalStateException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 5_402_771_930_166_248_091L;
+
+    /**
+     * Ctor.
+     * @param msg Message
+     */
+    public BulkheadFullException(final String msg) {
+        super(msg);
+    }
+}
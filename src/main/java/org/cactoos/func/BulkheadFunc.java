@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.Func;
+
+/**
+ * Func that limits the number of its concurrent calls.
+ *
+ * <p>When all permits of the {@link Bulkhead} are taken, a call fails
+ * with {@link BulkheadFullException}, maybe after a short wait. Put it
+ * inside {@link Async}, {@link Timed} or
+ * {@link org.cactoos.experimental.Threads} to give a dependency its own
+ * share of a pool, or outside of them to limit the number of tasks
+ * submitted:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Future<User>> users = new Async<>(
+ *     new BulkheadFunc<>(id -> remote.user(id), 10),
+ *     executor
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see Bulkhead
+ * @since 1.0
+ */
+public final class BulkheadFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Origin function.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * The bulkhead.
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param max Maximum number of concurrent calls
+     */
+    public BulkheadFunc(final Func<? super X, ? extends Y> fnc,
+        final int max) {
+        this(fnc, new Bulkhead(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param bulkhead The bulkhead
+     */
+    public BulkheadFunc(final Func<? super X, ? extends Y> fnc,
+        final Bulkhead bulkhead) {
+        this.func = fnc;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.bulkhead.call(() -> this.func.apply(input));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.Scalar;
+
+/**
+ * A single slot of a concurrent cache.
+ *
+ * <p>The value is calculated at most once, under the monitor of this
+ * slot only, so loads of different keys never block each other. Once
+ * the value is there, reading it takes no lock at all. An exception
+ * is not cached: the next call will try to load the value again.</p>
+ *
+ * <p>The slot also carries a "recently used" mark, which is raised
+ * on every read of the loaded value and cleared by {@link #recent()}.
+ * The cache uses it to give a second chance to hot entries before
+ * evicting them.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of value
+ * @since 1.0
+ */
+final class CacheEntry<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * The value, published by {@link #done}.
+     */
+    private T cache;
+
+    /**
+     * Whether the value is calculated.
+     */
+    private volatile boolean done;
+
+    /**
+     * Whether the value was used since the last check.
+     */
+    private volatile boolean used;
+
+    /**
+     * Ctor.
+     * @param scalar The scalar to calculate the value
+     * @param stats Statistics to collect
+     */
+    CacheEntry(final Scalar<? extends T> scalar, final CacheStats stats) {
+        this.origin = scalar;
+        this.stats = stats;
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws Exception {
+        if (this.done) {
+            this.stats.hit();
+            if (!this.used) {
+                this.used = true;
+            }
+        } else {
+            synchronized (this.lock) {
+                if (this.done) {
+                    this.stats.hit();
+                } else {
+                    this.cache = this.stats.miss(this.origin);
+                    this.done = true;
+                }
+            }
+        }
+        return this.cache;
+    }
+
+    /**
+     * Was it used since the last check? Clears the mark.
+     * @return TRUE if it was used
+     */
+    boolean recent() {
+        final boolean recent = this.used;
+        if (recent) {
+            this.used = false;
+        }
+        return recent;
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+
+/**
+ * Statistics of a memoizing decorator.
+ *
+ * <p>Memoizing decorators, like {@link StickyFunc}, {@link SolidFunc},
+ * {@link org.cactoos.scalar.Sticky} or {@link org.cactoos.io.Sticky},
+ * don't collect anything by default. To see whether a cache pays off,
+ * give it an instance of {@link CacheStats.Counted} and read its
+ * snapshot from time to time:</p>
+ *
+ * <pre>{@code
+ * final CacheStats.Counted stats = new CacheStats.Counted();
+ * final Func<String, User> users = new SolidFunc<>(
+ *     id -> database.user(id), 1000, stats
+ * );
+ * // later
+ * final Map<String, Long> numbers = stats.snapshot();
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public interface CacheStats {
+
+    /**
+     * A value was found in the cache.
+     */
+    void hit();
+
+    /**
+     * A value was not found in the cache and has to be loaded.
+     * @param load Loading of the value
+     * @param <T> Type of value
+     * @return The value loaded
+     * @throws Exception If fails to load
+     */
+    <T> T miss(Scalar<? extends T> load) throws Exception;
+
+    /**
+     * A value was evicted from the cache.
+     */
+    void evicted();
+
+    /**
+     * A cache uses these statistics.
+     *
+     * <p>The statistics don't keep the cache from being garbage
+     * collected.</p>
+     *
+     * @param cache The cache
+     * @param size Number of values in the cache now
+     * @param <T> Type of cache
+     */
+    <T> void attach(T cache, Func<? super T, Integer> size);
+
+    /**
+     * No statistics.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class None implements CacheStats {
+        @Override
+        public void hit() {
+            // Nothing to count
+        }
+
+        @Override
+        public <T> T miss(final Scalar<? extends T> load) throws Exception {
+            return load.value();
+        }
+
+        @Override
+        public void evicted() {
+            // Nothing to count
+        }
+
+        @Override
+        public <T> void attach(final T cache,
+            final Func<? super T, Integer> size) {
+            // Nothing to count
+        }
+    }
+
+    /**
+     * Statistics, collected by striped counters.
+     *
+     * <p>Counting is cheap even when the cache is hit by many threads at
+     * once, since every counter is a {@link LongAdder}. The snapshot
+     * contains these numbers: "hits", "misses", "evictions", "loads"
+     * (successful ones), "failures", "load-nanos" (total time spent
+     * in loads), "max-load-nanos" and "size" (number of values in the
+     * cache now, in all caches together, if they share the
+     * statistics).</p>
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Counted implements CacheStats {
+
+        /**
+         * Hits.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Misses.
+         */
+        private final LongAdder misses;
+
+        /**
+         * Evictions.
+         */
+        private final LongAdder evictions;
+
+        /**
+         * Successful loads.
+         */
+        private final LongAdder loads;
+
+        /**
+         * Failed loads.
+         */
+        private final LongAdder failures;
+
+        /**
+         * Total time of loads, in nanoseconds.
+         */
+        private final LongAdder time;
+
+        /**
+         * Maximum time of a load, in nanoseconds.
+         */
+        private final LongAccumulator longest;
+
+        /**
+         * Sizes of the caches.
+         */
+        private final Collection<WeakSize<?>> sizes;
+
+        /**
+         * Sizes of the caches, which are garbage collected already.
+         */
+        private final ReferenceQueue<Object> collected;
+
+        /**
+         * Ctor.
+         */
+        public Counted() {
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.evictions = new LongAdder();
+            this.loads = new LongAdder();
+            this.failures = new LongAdder();
+            this.time = new LongAdder();
+            this.longest = new LongAccumulator(Math::max, 0L);
+            this.sizes = ConcurrentHashMap.newKeySet();
+            this.collected = new ReferenceQueue<>();
+        }
+
+        @Override
+        public void hit() {
+            this.hits.increment();
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public <T> T miss(final Scalar<? extends T> load) throws Exception {
+            this.misses.increment();
+            final long start = System.nanoTime();
+            final T value;
+            try {
+                value = load.value();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                this.failures.increment();
+                this.took(System.nanoTime() - start);
+                throw ex;
+            }
+            this.loads.increment();
+            this.took(System.nanoTime() - start);
+            return value;
+        }
+
+        @Override
+        public void evicted() {
+            this.evictions.increment();
+        }
+
+        @Override
+        public <T> void attach(final T cache,
+            final Func<? super T, Integer> size) {
+            this.prune();
+            this.sizes.add(new WeakSize<>(cache, size, this.collected));
+        }
+
+        /**
+         * Numbers collected so far.
+         * @return Map of names to numbers
+         */
+        public Map<String, Long> snapshot() {
+            this.prune();
+            long values = 0L;
+            for (final WeakSize<?> size : this.sizes) {
+                values += size.value();
+            }
+            return new MapOf<String, Long>(
+                new MapEntry<>("hits", this.hits.sum()),
+                new MapEntry<>("misses", this.misses.sum()),
+                new MapEntry<>("evictions", this.evictions.sum()),
+                new MapEntry<>("loads", this.loads.sum()),
+                new MapEntry<>("failures", this.failures.sum()),
+                new MapEntry<>("load-nanos", this.time.sum()),
+                new MapEntry<>("max-load-nanos", this.longest.get()),
+                new MapEntry<>("size", values)
+            );
+        }
+
+        /**
+         * Forget the sizes of the caches, which are garbage collected.
+         *
+         * <p>It is called on every attach, so the sizes don't pile up
+         * while nobody takes snapshots.</p>
+         */
+        private void prune() {
+            for (Reference<?> ref = this.collected.poll(); ref != null;
+                ref = this.collected.poll()) {
+                this.sizes.remove(ref);
+            }
+        }
+
+        /**
+         * Count the time of a load.
+         * @param nanos Time in nanoseconds
+         */
+        private void took(final long nanos) {
+            this.time.add(nanos);
+            this.longest.accumulate(nanos);
+        }
+    }
+}
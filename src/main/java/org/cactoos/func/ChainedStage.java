@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.cactoos.Func;
+
+/**
+ * Func that applies another func to the result of a
+ * {@link CompletableFuture}, when it completes.
+ *
+ * <p>It is {@link CompletableFuture#thenApply(java.util.function.Function)}
+ * for cactoos functions, which may throw checked exceptions. Such
+ * an exception completes the resulting future exceptionally, wrapped
+ * into {@link CompletionException}, as the JDK does. No thread is
+ * blocked while waiting for the first result.</p>
+ *
+ * <p>Objects of this class are thread safe, if the functions are.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of intermediate result
+ * @param <Z> Type of output
+ * @see AsyncStage
+ * @since 1.0
+ */
+public final class ChainedStage<X, Y, Z> implements
+    Func<X, CompletableFuture<Z>> {
+
+    /**
+     * The first func.
+     */
+    private final Func<X, CompletableFuture<Y>> first;
+
+    /**
+     * The next func.
+     */
+    private final Func<? super Y, ? extends Z> next;
+
+    /**
+     * Ctor.
+     * @param before The first func
+     * @param after The next func, applied to the result of the first one
+     */
+    public ChainedStage(final Func<X, CompletableFuture<Y>> before,
+        final Func<? super Y, ? extends Z> after) {
+        this.first = before;
+        this.next = after;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public CompletableFuture<Z> apply(final X input) throws Exception {
+        return this.first.apply(input).thenApply(
+            result -> {
+                try {
+                    return this.next.apply(result);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            }
+        );
+    }
+}
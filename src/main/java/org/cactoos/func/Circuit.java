@@ -0,0 +1,280 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.BiProc;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * State of a circuit breaker, which may be shared by many functions
+ * calling the same dependency.
+ *
+ * <p>The circuit is "closed" while calls mostly succeed. When the rate
+ * of failures among the most recent calls reaches the threshold, the
+ * circuit goes "open" and rejects calls with
+ * {@link CircuitOpenException}, without calling the dependency. After
+ * a while, the circuit goes "half-open" and lets a single call through,
+ * as a probe: if it succeeds, the circuit is closed again, otherwise
+ * it is open for another while.</p>
+ *
+ * <pre>{@code
+ * final Circuit circuit = new Circuit(
+ *     100, 0.5d, Duration.ofSeconds(30L),
+ *     (from, to) -> metrics.transition(from, to)
+ * );
+ * final Func<String, User> users = new FuncWithFallback<>(
+ *     new CircuitBreakerFunc<>(id -> remote.user(id), circuit),
+ *     new Fallback.From<>(
+ *         CircuitOpenException.class, ex -> User.UNKNOWN
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>The state is changed without locks. The listener is notified
+ * about every transition. If the listener fails, its exception is
+ * ignored: it changes neither the state nor the outcome of the
+ * call.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see CircuitBreakerFunc
+ * @see org.cactoos.scalar.CircuitBreaker
+ * @since 1.0
+ */
+public final class Circuit {
+
+    /**
+     * Number of calls in the window.
+     */
+    private final int size;
+
+    /**
+     * Rate of failures to open the circuit at.
+     */
+    private final double threshold;
+
+    /**
+     * How long to stay open, in nanoseconds.
+     */
+    private final long pause;
+
+    /**
+     * Listener of transitions, from a state to a state.
+     */
+    private final BiProc<Circuit.State, Circuit.State> listener;
+
+    /**
+     * Monotonic clock, in nanoseconds.
+     */
+    private final Scalar<Long> clock;
+
+    /**
+     * Current state and the time it started at.
+     */
+    private final AtomicReference<Map.Entry<Circuit.State, Long>> state;
+
+    /**
+     * Outcomes of recent calls.
+     */
+    private final AtomicReference<SlidingWindow> window;
+
+    /**
+     * Ctor.
+     * @param calls Number of recent calls to calculate the rate of
+     * @param rate Rate of failures to open the circuit at
+     * @param open How long to stay open
+     */
+    public Circuit(final int calls, final double rate, final Duration open) {
+        this(calls, rate, open, (from, to) -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param calls Number of recent calls to calculate the rate of
+     * @param rate Rate of failures to open the circuit at
+     * @param open How long to stay open
+     * @param transitions Listener of transitions, from a state to a state
+     */
+    public Circuit(final int calls, final double rate, final Duration open,
+        final BiProc<Circuit.State, Circuit.State> transitions) {
+        this(calls, rate, open, transitions, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param calls Number of recent calls to calculate the rate of
+     * @param rate Rate of failures to open the circuit at
+     * @param open How long to stay open
+     * @param transitions Listener of transitions, from a state to a state
+     * @param clock Monotonic clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Circuit(final int calls, final double rate, final Duration open,
+        final BiProc<Circuit.State, Circuit.State> transitions,
+        final Scalar<Long> clock) {
+        this.size = calls;
+        this.threshold = rate;
+        this.pause = open.toNanos();
+        this.listener = transitions;
+        this.clock = clock;
+        this.state = new AtomicReference<>(
+            new MapEntry<>(Circuit.State.CLOSED, 0L)
+        );
+        this.window = new AtomicReference<>(new SlidingWindow(calls));
+    }
+
+    /**
+     * Call the dependency through the circuit.
+     * @param call The call
+     * @param <T> Type of result
+     * @return The result
+     * @throws Exception If the call fails or the circuit is open
+     */
+    public <T> T call(final Scalar<? extends T> call) throws Exception {
+        final Map.Entry<Circuit.State, Long> admitted = this.admit();
+        boolean failed = true;
+        final T result;
+        try {
+            result = call.value();
+            failed = false;
+        } finally {
+            this.record(admitted, failed);
+        }
+        return result;
+    }
+
+    /**
+     * The current state.
+     * @return The state
+     */
+    public Circuit.State state() {
+        return this.state.get().getKey();
+    }
+
+    /**
+     * Let a call through or reject it.
+     * @return The state the call was let through in
+     * @throws Exception If the call is rejected
+     */
+    private Map.Entry<Circuit.State, Long> admit() throws Exception {
+        final Map.Entry<Circuit.State, Long> current = this.state.get();
+        Map.Entry<Circuit.State, Long> admitted = current;
+        if (current.getKey() != Circuit.State.CLOSED) {
+            admitted = null;
+            if (current.getKey() == Circuit.State.OPEN) {
+                final long now = this.clock.value();
+                if (now - current.getValue() >= this.pause) {
+                    admitted = this.move(current, Circuit.State.HALF_OPEN, now);
+                }
+            }
+            if (admitted == null) {
+                throw new CircuitOpenException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "The circuit is %s", current.getKey()
+                        )
+                    ).asString()
+                );
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * Record the outcome of a call.
+     * @param admitted The state the call was let through in
+     * @param failed TRUE if the call failed
+     * @throws Exception If the clock fails
+     */
+    private void record(final Map.Entry<Circuit.State, Long> admitted,
+        final boolean failed) throws Exception {
+        if (admitted.getKey() == Circuit.State.HALF_OPEN) {
+            if (failed) {
+                this.move(admitted, Circuit.State.OPEN, this.clock.value());
+            } else {
+                this.window.set(new SlidingWindow(this.size));
+                this.move(admitted, Circuit.State.CLOSED, this.clock.value());
+            }
+        } else if (this.window.get().add(failed) >= this.threshold
+            && failed) {
+            final Map.Entry<Circuit.State, Long> current = this.state.get();
+            if (current.getKey() == Circuit.State.CLOSED) {
+                this.move(current, Circuit.State.OPEN, this.clock.value());
+            }
+        }
+    }
+
+    /**
+     * Move from the state to another one, unless some other thread
+     * did it first.
+     * @param from The state to move from
+     * @param target The state to move to
+     * @param now Current time
+     * @return The new state or NULL if another thread moved first
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Map.Entry<Circuit.State, Long> move(
+        final Map.Entry<Circuit.State, Long> from, final Circuit.State target,
+        final long now) {
+        Map.Entry<Circuit.State, Long> next = new MapEntry<>(target, now);
+        if (this.state.compareAndSet(from, next)) {
+            try {
+                this.listener.exec(from.getKey(), target);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                // The listener can't change the outcome of the call
+            }
+        } else {
+            next = null;
+        }
+        return next;
+    }
+
+    /**
+     * State of a circuit.
+     *
+     * @since 1.0
+     */
+    public enum State {
+        /**
+         * The circuit lets calls through.
+         */
+        CLOSED("closed"),
+
+        /**
+         * The circuit rejects calls.
+         */
+        OPEN("open"),
+
+        /**
+         * The circuit lets one call through.
+         */
+        HALF_OPEN("half-open");
+
+        /**
+         * Name of the state.
+         */
+        private final String label;
+
+        /**
+         * Ctor.
+         * @param label Name of the state
+         */
+        State(final String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return this.label;
+        }
+    }
+}
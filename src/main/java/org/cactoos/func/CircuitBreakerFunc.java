@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Func that stops calling its origin while it keeps failing.
+ *
+ * <p>When too many of the recent calls fail, the {@link Circuit} opens
+ * and the calls fail right away with {@link CircuitOpenException},
+ * which you may turn into a fallback answer with
+ * {@link FuncWithFallback}:</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new FuncWithFallback<>(
+ *     new CircuitBreakerFunc<>(
+ *         id -> remote.user(id), 100, 0.5d, Duration.ofSeconds(30L)
+ *     ),
+ *     new Fallback.From<>(
+ *         CircuitOpenException.class, ex -> User.UNKNOWN
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see Circuit
+ * @since 1.0
+ */
+public final class CircuitBreakerFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Origin function.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * The circuit.
+     */
+    private final Circuit circuit;
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param calls Number of recent calls to calculate the rate of
+     * @param rate Rate of failures to open the circuit at
+     * @param open How long to stay open
+     */
+    public CircuitBreakerFunc(final Func<? super X, ? extends Y> fnc,
+        final int calls, final double rate, final Duration open) {
+        this(fnc, new Circuit(calls, rate, open));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param circuit The circuit
+     */
+    public CircuitBreakerFunc(final Func<? super X, ? extends Y> fnc,
+        final Circuit circuit) {
+        this.func = fnc;
+        this.circuit = circuit;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.circuit.call(() -> this.func.apply(input));
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Call rejected by an open {@link Circuit}.
+ *
+ * <p>Catch it with a {@link org.cactoos.Fallback.From} in
+ * {@link FuncWithFallback}, to give an answer without the failing
+ * dependency.</p>
+ *
+ * @since 1.0
+ */
+public final class CircuitOpenException extends IllegalStateException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 3_817_442_504_913_376_518L;
+
+    /**
+     * Ctor.
+     * @param msg Message
+     */
+    public CircuitOpenException(final String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.Scalar;
+
+/**
+ * A single slot of a concurrent cache, which expires.
+ *
+ * <p>The value is calculated at most once, under the monitor of this
+ * slot only. The slot remembers when the value was loaded and when
+ * it was read last time, so the cache can decide whether it
+ * is still valid. An exception is not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of value
+ * @since 1.0
+ */
+final class ExpiringEntry<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * The value, published by {@link #done}.
+     */
+    private T cache;
+
+    /**
+     * Whether the value is calculated.
+     */
+    private volatile boolean done;
+
+    /**
+     * When the value was loaded, in nanoseconds.
+     */
+    private volatile long written;
+
+    /**
+     * When the value was read last time, in nanoseconds.
+     */
+    private volatile long accessed;
+
+    /**
+     * Ctor.
+     * @param scalar The scalar to calculate the value
+     */
+    ExpiringEntry(final Scalar<? extends T> scalar) {
+        this.origin = scalar;
+        this.lock = new Object();
+    }
+
+    /**
+     * Get the value, loading it if necessary.
+     * @param now Current time, in nanoseconds
+     * @return The value
+     * @throws Exception If fails to load
+     */
+    T value(final long now) throws Exception {
+        if (this.done) {
+            if (this.accessed != now) {
+                this.accessed = now;
+            }
+        } else {
+            synchronized (this.lock) {
+                if (!this.done) {
+                    this.cache = this.origin.value();
+                    this.written = now;
+                    this.accessed = now;
+                    this.done = true;
+                }
+            }
+        }
+        return this.cache;
+    }
+
+    /**
+     * Is it expired?
+     * @param now Current time, in nanoseconds
+     * @param write Time to live after loading, in nanoseconds
+     * @param access Time to live after last reading, in nanoseconds
+     * @return TRUE if the value is loaded and is not valid anymore
+     */
+    boolean expired(final long now, final long write, final long access) {
+        return this.done
+            && (now - this.written >= write || now - this.accessed >= access);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Func that caches previously calculated values for a limited time.
+ *
+ * <p>A value expires when it was loaded longer than "write" time ago,
+ * or when it was not read for longer than "access" time. An expired
+ * value is not recalculated in the background, but lazily, by
+ * the first caller who needs it again:</p>
+ *
+ * <pre>{@code
+ * final Func<String, String> config = new ExpiringFunc<>(
+ *     key -> remote.lookup(key),
+ *     Duration.ofSeconds(30L)
+ * );
+ * }</pre>
+ *
+ * <p>Valid values are read without any locking, and the recalculation
+ * of an expired value happens under a lock of its own key only, so
+ * it never blocks readers of other keys. Exceptions are not cached.
+ * Time is taken from the clock provided, which must return monotonic
+ * time in nanoseconds, like {@link System#nanoTime()} does.</p>
+ *
+ * <p>Inputs must not be NULL.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see SolidFunc
+ * @since 1.0
+ */
+public final class ExpiringFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final ConcurrentMap<X, ExpiringEntry<Y>> cache;
+
+    /**
+     * Time to live after loading, in nanoseconds.
+     */
+    private final long write;
+
+    /**
+     * Time to live after last reading, in nanoseconds.
+     */
+    private final long access;
+
+    /**
+     * Monotonic clock, in nanoseconds.
+     */
+    private final Scalar<Long> clock;
+
+    /**
+     * Insertions since the last purge of expired entries.
+     */
+    private final AtomicInteger inserts;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param write Time to live after loading
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration write) {
+        this(fnc, write, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param write Time to live after loading
+     * @param access Time to live after last reading
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration write,
+        final Duration access) {
+        this(fnc, write, access, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param write Time to live after loading
+     * @param access Time to live after last reading
+     * @param clock Monotonic clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration write,
+        final Duration access, final Scalar<Long> clock) {
+        this.func = fnc;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.write = ExpiringFunc.nanos(write);
+        this.access = ExpiringFunc.nanos(access);
+        this.clock = clock;
+        this.inserts = new AtomicInteger();
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long now = this.clock.value();
+        ExpiringEntry<Y> entry = this.cache.get(input);
+        while (entry == null || entry.expired(now, this.write, this.access)) {
+            final ExpiringEntry<Y> fresh = new ExpiringEntry<>(
+                () -> this.func.apply(input)
+            );
+            final boolean stored;
+            if (entry == null) {
+                stored = this.cache.putIfAbsent(input, fresh) == null;
+            } else {
+                stored = this.cache.replace(input, entry, fresh);
+            }
+            if (stored) {
+                entry = fresh;
+                this.purge(now);
+            } else {
+                entry = this.cache.get(input);
+            }
+        }
+        return entry.value(now);
+    }
+
+    /**
+     * Remove expired entries, once in a while.
+     *
+     * <p>The map is scanned only after it had as many insertions as
+     * it has entries, which keeps the cost constant per insertion.</p>
+     *
+     * @param now Current time, in nanoseconds
+     */
+    private void purge(final long now) {
+        if (this.inserts.incrementAndGet() >= this.cache.size()) {
+            this.inserts.set(0);
+            this.cache.values().removeIf(
+                entry -> entry.expired(now, this.write, this.access)
+            );
+        }
+    }
+
+    /**
+     * Duration in nanoseconds, saturated to {@link Long#MAX_VALUE}.
+     * @param duration The duration
+     * @return Nanoseconds
+     */
+    private static long nanos(final Duration duration) {
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            nanos = Long.MAX_VALUE;
+        }
+        return nanos;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Delay before {@link HedgedFunc} launches a duplicate call.
+ *
+ * @since 1.0
+ */
+public interface HedgeDelay {
+
+    /**
+     * How long to wait for the first call.
+     * @return The delay
+     */
+    Duration delay();
+
+    /**
+     * A call completed.
+     * @param latency How long it took
+     */
+    void observed(Duration latency);
+
+    /**
+     * The same delay every time.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Fixed implements HedgeDelay {
+
+        /**
+         * The delay.
+         */
+        private final Duration wait;
+
+        /**
+         * Ctor.
+         * @param wait The delay
+         */
+        public Fixed(final Duration wait) {
+            this.wait = wait;
+        }
+
+        @Override
+        public Duration delay() {
+            return this.wait;
+        }
+
+        @Override
+        public void observed(final Duration latency) {
+            // The delay doesn't depend on latencies
+        }
+    }
+
+    /**
+     * Delay equal to a percentile of recent latencies, for example
+     * the 95th one, so only the slowest calls are duplicated.
+     *
+     * <p>Latencies are kept in a ring of a fixed size, without locks.
+     * Until the ring is full, the initial delay is used. The percentile
+     * is calculated again, by sorting a copy of the ring, only after
+     * a number of new latencies are observed, by default a tenth of
+     * the ring; {@link #delay()} only reads it.</p>
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Percentile implements HedgeDelay {
+
+        /**
+         * The percentile, between 0 and 1.
+         */
+        private final double rank;
+
+        /**
+         * Delay until the ring is full.
+         */
+        private final Duration initial;
+
+        /**
+         * Recent latencies, in nanoseconds.
+         */
+        private final AtomicLongArray latencies;
+
+        /**
+         * Number of latencies observed, negative after an overflow.
+         */
+        private final AtomicInteger count;
+
+        /**
+         * Number of latencies observed between calculations.
+         */
+        private final int period;
+
+        /**
+         * The percentile calculated last time, in nanoseconds, or
+         * a negative number if not calculated yet.
+         */
+        private final AtomicLong current;
+
+        /**
+         * Ctor.
+         * @param initial Delay until enough latencies are observed
+         */
+        public Percentile(final Duration initial) {
+            // @checkstyle MagicNumberCheck (1 line)
+            this(0.95d, 100, initial);
+        }
+
+        /**
+         * Ctor.
+         * @param rank The percentile, between 0 and 1
+         * @param size Number of recent latencies to keep
+         * @param initial Delay until enough latencies are observed
+         */
+        public Percentile(final double rank, final int size,
+            final Duration initial) {
+            // @checkstyle MagicNumberCheck (1 line)
+            this(rank, size, Math.max(1, size / 10), initial);
+        }
+
+        /**
+         * Ctor.
+         * @param rank The percentile, between 0 and 1
+         * @param size Number of recent latencies to keep
+         * @param period Number of latencies between calculations
+         * @param initial Delay until enough latencies are observed
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Percentile(final double rank, final int size,
+            final int period, final Duration initial) {
+            this.rank = rank;
+            this.initial = initial;
+            this.latencies = new AtomicLongArray(size);
+            this.count = new AtomicInteger();
+            this.period = period;
+            this.current = new AtomicLong(-1L);
+        }
+
+        @Override
+        public Duration delay() {
+            final long nanos = this.current.get();
+            final Duration delay;
+            if (nanos < 0L) {
+                delay = this.initial;
+            } else {
+                delay = Duration.ofNanos(nanos);
+            }
+            return delay;
+        }
+
+        @Override
+        public void observed(final Duration latency) {
+            final int size = this.latencies.length();
+            final int seen = this.count.getAndIncrement();
+            this.latencies.set(Math.floorMod(seen, size), latency.toNanos());
+            final int total = seen + 1;
+            final boolean full = total < 0 || total >= size;
+            if (full && (total == size
+                || Math.floorMod(total, this.period) == 0)) {
+                this.current.set(this.percentile());
+            }
+        }
+
+        /**
+         * Calculate the percentile of the latencies in the ring.
+         * @return The percentile, in nanoseconds
+         */
+        private long percentile() {
+            final int size = this.latencies.length();
+            final long[] sorted = new long[size];
+            for (int idx = 0; idx < size; ++idx) {
+                sorted[idx] = this.latencies.get(idx);
+            }
+            Arrays.sort(sorted);
+            final int pos = (int) Math.ceil(this.rank * size) - 1;
+            return sorted[Math.min(size - 1, Math.max(0, pos))];
+        }
+    }
+}
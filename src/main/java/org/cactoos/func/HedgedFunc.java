@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+
+/**
+ * Func that calls its origin once again, if the first call is slow,
+ * and takes the result that comes first.
+ *
+ * <p>Both calls run in the executor. If the first call doesn't complete
+ * within the delay, a duplicate is launched; the first successful
+ * result wins and the other call is cancelled. This cuts the tail
+ * latency of reads from replicas, when a few of them are slow at
+ * times. The delay may be fixed or follow a percentile of recent
+ * latencies:</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new HedgedFunc<>(
+ *     id -> replicas.user(id),
+ *     new HedgeDelay.Percentile(Duration.ofMillis(50L)),
+ *     executor
+ * );
+ * }</pre>
+ *
+ * <p>Use it only for idempotent functions, since the origin may be
+ * called twice for the same input. If the first call fails before the
+ * delay, its exception is thrown without a duplicate. If both calls
+ * fail, the exception of the last one is thrown.</p>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class HedgedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Origin function.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Delay before the duplicate.
+     */
+    private final HedgeDelay hedge;
+
+    /**
+     * Executor of calls.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param delay Delay before the duplicate
+     * @param exec Executor of calls
+     */
+    public HedgedFunc(final Func<? super X, ? extends Y> fnc,
+        final Duration delay, final ExecutorService exec) {
+        this(fnc, new HedgeDelay.Fixed(delay), exec);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param delay Delay before the duplicate
+     * @param exec Executor of calls
+     */
+    public HedgedFunc(final Func<? super X, ? extends Y> fnc,
+        final HedgeDelay delay, final ExecutorService exec) {
+        this.func = fnc;
+        this.hedge = delay;
+        this.executor = exec;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long start = System.nanoTime();
+        final CompletionService<Y> service =
+            new ExecutorCompletionService<>(this.executor);
+        final Callable<Y> call = () -> this.func.apply(input);
+        final List<Future<Y>> futures = new ArrayList<>(2);
+        futures.add(service.submit(call));
+        final Y result;
+        try {
+            Future<Y> next = service.poll(
+                this.hedge.delay().toNanos(), TimeUnit.NANOSECONDS
+            );
+            if (next == null) {
+                futures.add(service.submit(call));
+                next = service.take();
+            }
+            result = HedgedFunc.first(service, next, futures.size() - 1);
+        } finally {
+            for (final Future<Y> future : futures) {
+                future.cancel(true);
+            }
+        }
+        this.hedge.observed(Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * The first successful result.
+     * @param service Completion service
+     * @param done The first completed call
+     * @param pending Number of calls still running
+     * @param <T> Type of result
+     * @return The result
+     * @throws Exception If all calls fail
+     */
+    private static <T> T first(final CompletionService<T> service,
+        final Future<T> done, final int pending) throws Exception {
+        Future<T> next = done;
+        int left = pending;
+        T result = null;
+        boolean found = false;
+        while (!found) {
+            try {
+                result = next.get();
+                found = true;
+            } catch (final ExecutionException ex) {
+                if (left == 0) {
+                    if (ex.getCause() instanceof Exception) {
+                        throw (Exception) ex.getCause();
+                    }
+                    throw ex;
+                }
+                next = service.take();
+                left -= 1;
+            }
+        }
+        return result;
+    }
+}
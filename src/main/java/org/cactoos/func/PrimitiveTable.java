@@ -0,0 +1,170 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Arrays;
+import org.cactoos.Func;
+
+/**
+ * Hash table with primitive keys, which caches values of a function.
+ *
+ * <p>The keys are kept in a plain array, probed linearly, so looking up
+ * a key never allocates. The table grows twice when it gets half full.
+ * Linear probing doesn't support cheap removal of single keys, that's
+ * why, when the table holds the maximum number of keys, it is cleared
+ * entirely and starts over.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of values
+ * @since 1.0
+ */
+final class PrimitiveTable<T> {
+
+    /**
+     * Function, which calculates the values of missing keys.
+     */
+    private final Func<Long, T> func;
+
+    /**
+     * Maximum number of keys.
+     */
+    private final int max;
+
+    /**
+     * Keys.
+     */
+    private long[] keys;
+
+    /**
+     * Values, of the same slots as keys.
+     */
+    private Object[] values;
+
+    /**
+     * Which slots are taken.
+     */
+    private boolean[] taken;
+
+    /**
+     * How many slots are taken.
+     */
+    private int count;
+
+    /**
+     * Ctor.
+     * @param fnc Function, which calculates the values of missing keys
+     * @param max Maximum number of keys
+     */
+    PrimitiveTable(final Func<Long, T> fnc, final int max) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(fnc, max, 16);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Function, which calculates the values of missing keys
+     * @param max Maximum number of keys
+     * @param capacity Initial capacity, a power of two
+     */
+    PrimitiveTable(final Func<Long, T> fnc, final int max,
+        final int capacity) {
+        this.func = fnc;
+        this.max = max;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.taken = new boolean[capacity];
+    }
+
+    /**
+     * The value of the key, calculated only if it is not in the table.
+     *
+     * <p>The function may call this table again, that's why the slot
+     * of the key is looked up again after the calculation.</p>
+     *
+     * @param key The key
+     * @return The value
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("unchecked")
+    T apply(final long key) throws Exception {
+        final int slot = this.slot(key);
+        final T value;
+        if (this.taken[slot]) {
+            value = (T) this.values[slot];
+        } else {
+            value = this.func.apply(key);
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Find the slot of the key, or an empty slot where it may be put.
+     * @param key The key
+     * @return Slot
+     */
+    private int slot(final long key) {
+        final int mask = this.keys.length - 1;
+        // @checkstyle MagicNumberCheck (2 lines)
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (mixed ^ (mixed >>> 32)) & mask;
+        while (this.taken[slot] && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Put the value of the key.
+     * @param key The key
+     * @param value The value
+     */
+    private void put(final long key, final T value) {
+        int slot = this.slot(key);
+        if (!this.taken[slot] && this.count >= this.max) {
+            this.clear();
+            slot = this.slot(key);
+        }
+        if (!this.taken[slot]) {
+            this.keys[slot] = key;
+            this.taken[slot] = true;
+            ++this.count;
+        }
+        this.values[slot] = value;
+        if (this.count * 2 > this.keys.length) {
+            this.grow();
+        }
+    }
+
+    /**
+     * Forget all the keys.
+     */
+    private void clear() {
+        Arrays.fill(this.taken, false);
+        Arrays.fill(this.values, null);
+        this.count = 0;
+    }
+
+    /**
+     * Double the capacity and rehash all the keys.
+     */
+    private void grow() {
+        final long[] before = this.keys;
+        final Object[] olds = this.values;
+        final boolean[] used = this.taken;
+        this.keys = new long[before.length * 2];
+        this.values = new Object[before.length * 2];
+        this.taken = new boolean[before.length * 2];
+        for (int idx = 0; idx < before.length; ++idx) {
+            if (used[idx]) {
+                final int slot = this.slot(before[idx]);
+                this.keys[slot] = before[idx];
+                this.values[slot] = olds[idx];
+                this.taken[slot] = true;
+            }
+        }
+    }
+}
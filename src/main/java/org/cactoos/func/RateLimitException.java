@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Call rejected, since a {@link TokenBucket} had no permit in time.
+ *
+ * @since 1.0
+ */
+public final class RateLimitException extends IllegalStateException {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -2_094_518_667_023_154_873L;
+
+    /**
+     * Ctor.
+     * @param msg Message
+     */
+    public RateLimitException(final String msg) {
+        super(msg);
+    }
+}
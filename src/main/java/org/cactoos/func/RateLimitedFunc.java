@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Func that is called no faster than a {@link TokenBucket} allows.
+ *
+ * <p>Without a timeout, every call waits for its permit as long as
+ * needed. With a timeout, a call that can't get a permit in time
+ * fails with {@link RateLimitException}, and with
+ * {@link Duration#ZERO} it fails right away, without waiting:</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new RateLimitedFunc<>(
+ *     id -> remote.user(id),
+ *     new TokenBucket(100, Duration.ofSeconds(1L)),
+ *     Duration.ZERO
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see org.cactoos.proc.RateLimitedProc
+ * @since 1.0
+ */
+public final class RateLimitedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Origin function.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * The budget.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * How long to wait for a permit.
+     */
+    private final Duration timeout;
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param bucket The budget
+     */
+    public RateLimitedFunc(final Func<? super X, ? extends Y> fnc,
+        final TokenBucket bucket) {
+        this(fnc, bucket, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param bucket The budget
+     * @param timeout How long to wait for a permit at most
+     */
+    public RateLimitedFunc(final Func<? super X, ? extends Y> fnc,
+        final TokenBucket bucket, final Duration timeout) {
+        this.func = fnc;
+        this.bucket = bucket;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        if (!this.bucket.acquire(this.timeout)) {
+            throw new RateLimitException(
+                new UncheckedText(
+                    new FormattedText(
+                        "No permit available in %s", this.timeout
+                    )
+                ).asString()
+            );
+        }
+        return this.func.apply(input);
+    }
+}
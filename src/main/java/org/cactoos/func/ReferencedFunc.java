@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * Func that caches previously calculated values through references,
+ * which the garbage collector may clear.
+ *
+ * <p>When the reference of a value is cleared, the value is calculated
+ * again on the next call. Cleared references are registered in a
+ * {@link ReferenceQueue}, which is drained on every call, so their
+ * entries don't accumulate in the cache. NULL results are not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+final class ReferencedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Factory of references.
+     */
+    private final BiFunc<Y, ReferenceQueue<Y>, Reference<Y>> factory;
+
+    /**
+     * Cache.
+     */
+    private final ConcurrentMap<X, Reference<Y>> cache;
+
+    /**
+     * Keys of references.
+     */
+    private final ConcurrentMap<Reference<? extends Y>, X> keys;
+
+    /**
+     * Queue of cleared references.
+     */
+    private final ReferenceQueue<Y> queue;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param refs Factory of references
+     */
+    ReferencedFunc(final Func<X, Y> fnc,
+        final BiFunc<Y, ReferenceQueue<Y>, Reference<Y>> refs) {
+        this.func = fnc;
+        this.factory = refs;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.keys = new ConcurrentHashMap<>(0);
+        this.queue = new ReferenceQueue<>();
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        this.expunge();
+        final Reference<Y> ref = this.cache.get(input);
+        Y value = null;
+        if (ref != null) {
+            value = ref.get();
+        }
+        if (value == null) {
+            value = this.func.apply(input);
+            if (value != null) {
+                final Reference<Y> fresh = this.factory.apply(
+                    value, this.queue
+                );
+                this.keys.put(fresh, input);
+                final Reference<Y> old = this.cache.put(input, fresh);
+                if (old != null) {
+                    this.keys.remove(old);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Remove entries of cleared references.
+     */
+    private void expunge() {
+        Reference<? extends Y> ref = this.queue.poll();
+        while (ref != null) {
+            final X key = this.keys.remove(ref);
+            if (key != null) {
+                this.cache.remove(key, ref);
+            }
+            ref = this.queue.poll();
+        }
+    }
+}
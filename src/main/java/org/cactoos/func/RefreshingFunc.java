@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Refreshing;
+
+/**
+ * Func that caches previously calculated values and refreshes them
+ * ahead in the background.
+ *
+ * <p>Each key is cached by its own {@link Refreshing} scalar: the first
+ * call for a key blocks until the value is calculated, while later calls
+ * always get the cached value immediately. When a value gets older than
+ * the given period, a single refresh task for its key is submitted to
+ * the executor. A failed refresh keeps the old value and is not retried
+ * until one more period passes.</p>
+ *
+ * <p>The keys are kept by a {@link SolidFunc}: when there are more of
+ * them than the maximum size, the least recently used ones are evicted,
+ * together with their values, and calculated again, with blocking, when
+ * they are needed next time.</p>
+ *
+ * <p>Inputs must not be NULL.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see SolidFunc
+ * @see ExpiringFunc
+ * @since 1.0
+ */
+public final class RefreshingFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Cache of scalars, one for each key.
+     */
+    private final Func<X, Scalar<Y>> cache;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param period Age of the value, after which it is refreshed
+     * @param exec Executor of refresh tasks
+     */
+    public RefreshingFunc(final Func<X, Y> fnc, final Duration period,
+        final ExecutorService exec) {
+        this(fnc, period, Integer.MAX_VALUE, exec);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param period Age of the value, after which it is refreshed
+     * @param max Maximum number of keys
+     * @param exec Executor of refresh tasks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RefreshingFunc(final Func<X, Y> fnc, final Duration period,
+        final int max, final ExecutorService exec) {
+        this(fnc, period, max, exec, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param period Age of the value, after which it is refreshed
+     * @param max Maximum number of keys
+     * @param exec Executor of refresh tasks
+     * @param clock Monotonic clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RefreshingFunc(final Func<X, Y> fnc, final Duration period,
+        final int max, final ExecutorService exec, final Scalar<Long> clock) {
+        this.cache = new SolidFunc<>(
+            input -> new Refreshing<>(
+                () -> fnc.apply(input), period, exec, clock
+            ),
+            max
+        );
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.cache.apply(input).value();
+    }
+}
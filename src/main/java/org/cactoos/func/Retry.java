@@ -5,11 +5,32 @@
 package org.cactoos.func;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
 
 /**
  * Func that will try a few times before throwing an exception.
  *
+ * <p>The delay between attempts is decided by a {@link Backoff}, which
+ * may grow exponentially and be randomized, to not retry in lockstep
+ * with other callers:</p>
+ *
+ * <pre>{@code
+ * new Retry<>(
+ *     url -> new TextOf(url).asString(),
+ *     attempt -> attempt >= 5,
+ *     new Backoff.Exponential(
+ *         Duration.ofMillis(100L), Duration.ofSeconds(10L)
+ *     ),
+ *     new IterableOf<>(IOException.class)
+ * ).apply(new URL("https://www.example.com"));
+ * }</pre>
+ *
+ * <p>Only exceptions of the given types are retried, others are
+ * thrown right away. The thread sleeps between attempts, use
+ * {@link RetryStage} to not block it.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -29,9 +50,14 @@ public final class Retry<X, Y> implements Func<X, Y> {
     private final Func<Integer, Boolean> exit;
 
     /**
-     * Wait between executions.
+     * Delay between executions.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Exceptions to retry.
      */
-    private final Duration wait;
+    private final Iterable<Class<? extends Throwable>> exceptions;
 
     /**
      * Ctor.
@@ -62,6 +88,19 @@ public final class Retry<X, Y> implements Func<X, Y> {
         this(fnc, attempt -> attempt >= attempts, wait);
     }
 
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param delays Delays between attempts
+     * @since 1.0
+     */
+    public Retry(final Func<X, Y> fnc, final int attempts,
+        final Backoff delays) {
+        this(fnc, attempt -> attempt >= attempts, delays);
+    }
+
     /**
      * Ctor.
      *
@@ -81,9 +120,38 @@ public final class Retry<X, Y> implements Func<X, Y> {
      */
     public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
         final Duration wait) {
+        this(fnc, ext, new Backoff.Fixed(wait));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param delays Delays between attempts
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
+        final Backoff delays) {
+        this(fnc, ext, delays, new IterableOf<>(Exception.class));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param delays Delays between attempts
+     * @param exps Types of exceptions to retry
+     * @since 1.0
+     */
+    public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
+        final Backoff delays, final Iterable<Class<? extends Throwable>> exps) {
         this.func = fnc;
         this.exit = ext;
-        this.wait = wait;
+        this.backoff = delays;
+        this.exceptions = exps;
     }
 
     @Override
@@ -93,7 +161,9 @@ public final class Retry<X, Y> implements Func<X, Y> {
         Exception error = new IllegalArgumentException(
             "An immediate exit, didn't have a chance to try at least once"
         );
-        while (!this.exit.apply(attempt)) {
+        Duration wait = Duration.ZERO;
+        boolean more = !this.exit.apply(attempt);
+        while (more) {
             try {
                 return this.func.apply(input);
             } catch (final InterruptedException ex) {
@@ -104,17 +174,55 @@ public final class Retry<X, Y> implements Func<X, Y> {
             } catch (final Exception ex) {
                 error = ex;
             }
-            if (!this.wait.isZero() && !this.wait.isNegative()) {
-                try {
-                    Thread.sleep(this.wait.toMillis());
-                } catch (final InterruptedException ex) {
-                    error = ex;
-                    break;
+            ++attempt;
+            more = Retry.retryable(error, this.exceptions)
+                && !this.exit.apply(attempt);
+            if (more) {
+                wait = this.backoff.delay(attempt - 1, wait);
+                if (!wait.isZero() && !wait.isNegative()) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(Retry.nanos(wait));
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        error = ex;
+                        break;
+                    }
                 }
             }
-            ++attempt;
         }
         throw error;
     }
 
+    /**
+     * Duration in nanoseconds, saturated to {@link Long#MAX_VALUE}.
+     * @param duration The duration
+     * @return Nanoseconds
+     */
+    private static long nanos(final Duration duration) {
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            nanos = Long.MAX_VALUE;
+        }
+        return nanos;
+    }
+
+    /**
+     * Whether the error is one of the types to retry.
+     * @param error The error
+     * @param types Types of exceptions to retry
+     * @return TRUE if it is
+     */
+    static boolean retryable(final Throwable error,
+        final Iterable<Class<? extends Throwable>> types) {
+        boolean found = false;
+        for (final Class<? extends Throwable> type : types) {
+            if (type.isInstance(error)) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Func that tries its {@link CompletableFuture} a few times before
+ * completing it with an exception.
+ *
+ * <p>Unlike {@link Retry}, no thread sleeps between attempts: the next
+ * attempt is a task of a scheduler, so a burst of failing calls doesn't
+ * occupy the threads of a pool. The next attempt is started in the
+ * thread of the scheduler, that's why the function should only start
+ * a computation and return, the way {@link AsyncStage} does:</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<String> page = new RetryStage<>(
+ *     new AsyncStage<URL, String>(url -> new TextOf(url).asString()),
+ *     5,
+ *     new Backoff.Decorrelated(
+ *         Duration.ofMillis(100L), Duration.ofSeconds(10L)
+ *     )
+ * ).apply(new URL("https://www.example.com"));
+ * }</pre>
+ *
+ * <p>When the future returned is cancelled, no more attempts are made.
+ * By default, all instances of this class share one scheduler with
+ * one daemon thread.</p>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class RetryStage<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * Origin function.
+     */
+    private final Func<X, CompletableFuture<Y>> func;
+
+    /**
+     * Exit condition.
+     */
+    private final Func<Integer, Boolean> exit;
+
+    /**
+     * Delay between executions.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Exceptions to retry.
+     */
+    private final Iterable<Class<? extends Throwable>> exceptions;
+
+    /**
+     * Scheduler of attempts.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param attempts Maximum number of attempts
+     * @param delays Delays between attempts
+     */
+    public RetryStage(final Func<X, CompletableFuture<Y>> fnc,
+        final int attempts, final Backoff delays) {
+        this(fnc, attempts, delays, new SharedScheduler().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param attempts Maximum number of attempts
+     * @param delays Delays between attempts
+     * @param timer Scheduler of attempts
+     */
+    @SuppressWarnings("unchecked")
+    public RetryStage(final Func<X, CompletableFuture<Y>> fnc,
+        final int attempts, final Backoff delays,
+        final ScheduledExecutorService timer) {
+        this(
+            fnc, attempt -> attempt >= attempts, delays,
+            new IterableOf<>(Exception.class), timer
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param delays Delays between attempts
+     * @param exps Types of exceptions to retry
+     * @param timer Scheduler of attempts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RetryStage(final Func<X, CompletableFuture<Y>> fnc,
+        final Func<Integer, Boolean> ext, final Backoff delays,
+        final Iterable<Class<? extends Throwable>> exps,
+        final ScheduledExecutorService timer) {
+        this.func = fnc;
+        this.exit = ext;
+        this.backoff = delays;
+        this.exceptions = exps;
+        this.scheduler = timer;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        try {
+            if (this.exit.apply(0)) {
+                result.completeExceptionally(
+                    new IllegalArgumentException(
+                        String.join(
+                            " ", "An immediate exit,",
+                            "didn't have a chance to try at least once"
+                        )
+                    )
+                );
+            } else {
+                this.attempt(input, 0, Duration.ZERO, result);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+
+    /**
+     * Make an attempt, unless the future is already completed.
+     * @param input The input
+     * @param attempt Number of the attempt
+     * @param wait Previous delay
+     * @param result The future to complete
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void attempt(final X input, final int attempt,
+        final Duration wait, final CompletableFuture<Y> result) {
+        try {
+            if (!result.isDone()) {
+                this.func.apply(input).whenComplete(
+                    (value, failure) -> {
+                        if (failure == null) {
+                            result.complete(value);
+                        } else {
+                            this.failed(
+                                input, attempt, wait,
+                                RetryStage.cause(failure), result
+                            );
+                        }
+                    }
+                );
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            this.failed(input, attempt, wait, ex, result);
+        }
+    }
+
+    /**
+     * Schedule the next attempt after a failure, if the error may be
+     * retried and it's not time to exit.
+     * @param input The input
+     * @param attempt Number of the attempt that failed
+     * @param wait Previous delay
+     * @param error The error
+     * @param result The future to complete
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void failed(final X input, final int attempt,
+        final Duration wait, final Throwable error,
+        final CompletableFuture<Y> result) {
+        if (error instanceof InterruptedException
+            || !Retry.retryable(error, this.exceptions)) {
+            result.completeExceptionally(error);
+        } else {
+            try {
+                if (this.exit.apply(attempt + 1)) {
+                    result.completeExceptionally(error);
+                } else {
+                    final Duration next = this.backoff.delay(attempt, wait);
+                    this.scheduler.schedule(
+                        () -> this.attempt(input, attempt + 1, next, result),
+                        Math.max(0L, next.toNanos()),
+                        TimeUnit.NANOSECONDS
+                    );
+                }
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+
+    /**
+     * The cause of a failure of a stage.
+     * @param error The failure
+     * @return The cause
+     */
+    private static Throwable cause(final Throwable error) {
+        Throwable cause = error;
+        if (error instanceof CompletionException && error.getCause() != null) {
+            cause = error.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+
+/**
+ * Scheduler with one daemon thread, shared by all default instances of
+ * {@link TimedStage}, {@link RetryStage} and {@link BatchedStage}.
+ *
+ * <p>The scheduler is made when this class is loaded, but its thread
+ * starts only with the first task, and stops after some time without
+ * tasks, so a JVM that doesn't need it keeps no thread for it. It
+ * doesn't keep cancelled tasks. It must never be shut down.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class SharedScheduler implements Scalar<ScheduledExecutorService> {
+
+    /**
+     * Seconds the idle thread lives.
+     */
+    private static final long KEEP_ALIVE = 10L;
+
+    /**
+     * The scheduler.
+     */
+    private static final ScheduledExecutorService TIMER =
+        SharedScheduler.timer();
+
+    @Override
+    public ScheduledExecutorService value() {
+        return SharedScheduler.TIMER;
+    }
+
+    /**
+     * Make the scheduler.
+     * @return The scheduler
+     */
+    private static ScheduledExecutorService timer() {
+        final ScheduledThreadPoolExecutor timer =
+            new ScheduledThreadPoolExecutor(
+                1,
+                runnable -> {
+                    final Thread thread = new Thread(
+                        runnable, "cactoos-scheduler"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        timer.setRemoveOnCancelPolicy(true);
+        timer.setKeepAliveTime(SharedScheduler.KEEP_ALIVE, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        return timer;
+    }
+}
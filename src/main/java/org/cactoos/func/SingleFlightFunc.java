@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.cactoos.Func;
+
+/**
+ * Func that coalesces concurrent calls with equal inputs.
+ *
+ * <p>The first caller of a key executes the original function in its own
+ * thread, while all other callers of an equal key, which come before
+ * it finishes, wait for the same result or exception. Calls for different
+ * keys run in parallel. Nothing is retained after the call completes,
+ * so the next call for the key executes the function again. If you need
+ * the results to stay, use {@link SolidFunc}.</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new SingleFlightFunc<>(
+ *     id -> database.user(id)
+ * );
+ * }</pre>
+ *
+ * <p>Inputs must not be NULL.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class SingleFlightFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Calls in flight.
+     */
+    private final ConcurrentMap<X, CompletableFuture<Y>> flights;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     */
+    public SingleFlightFunc(final Func<X, Y> fnc) {
+        this.func = fnc;
+        this.flights = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) throws Exception {
+        final CompletableFuture<Y> mine = new CompletableFuture<>();
+        final CompletableFuture<Y> other = this.flights.putIfAbsent(
+            input, mine
+        );
+        final Y result;
+        if (other == null) {
+            try {
+                result = this.func.apply(input);
+                mine.complete(result);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                mine.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                this.flights.remove(input, mine);
+                mine.completeExceptionally(
+                    new IllegalStateException("The call didn't complete")
+                );
+            }
+        } else {
+            try {
+                result = other.get();
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof Exception) {
+                    throw (Exception) ex.getCause();
+                }
+                throw ex;
+            }
+        }
+        return result;
+    }
+}
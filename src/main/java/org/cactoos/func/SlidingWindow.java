@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Outcomes of the most recent calls, for the failure rate of a
+ * {@link Circuit}.
+ *
+ * <p>It is a ring of a fixed size, updated without locks: every call
+ * takes the next slot and replaces the outcome of the call that was
+ * there before.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class SlidingWindow {
+
+    /**
+     * Outcome of a slot without a call yet.
+     */
+    private static final int EMPTY = 0;
+
+    /**
+     * Outcome of a successful call.
+     */
+    private static final int SUCCESS = 1;
+
+    /**
+     * Outcome of a failed call.
+     */
+    private static final int FAILURE = 2;
+
+    /**
+     * Outcomes.
+     */
+    private final AtomicIntegerArray slots;
+
+    /**
+     * Position of the next outcome.
+     */
+    private final AtomicInteger cursor;
+
+    /**
+     * Number of slots taken.
+     */
+    private final AtomicInteger taken;
+
+    /**
+     * Number of failures in the slots.
+     */
+    private final AtomicInteger failures;
+
+    /**
+     * Ctor.
+     * @param size Number of calls to keep
+     */
+    SlidingWindow(final int size) {
+        this.slots = new AtomicIntegerArray(size);
+        this.cursor = new AtomicInteger();
+        this.taken = new AtomicInteger();
+        this.failures = new AtomicInteger();
+    }
+
+    /**
+     * Add an outcome.
+     * @param failed TRUE if the call failed
+     * @return Failure rate, or zero if the window is not full yet
+     */
+    double add(final boolean failed) {
+        final int size = this.slots.length();
+        final int outcome;
+        if (failed) {
+            outcome = SlidingWindow.FAILURE;
+        } else {
+            outcome = SlidingWindow.SUCCESS;
+        }
+        final int previous = this.slots.getAndSet(
+            Math.floorMod(this.cursor.getAndIncrement(), size), outcome
+        );
+        if (previous == SlidingWindow.EMPTY) {
+            this.taken.incrementAndGet();
+        }
+        int delta = 0;
+        if (failed) {
+            delta += 1;
+        }
+        if (previous == SlidingWindow.FAILURE) {
+            delta -= 1;
+        }
+        final int count = this.failures.addAndGet(delta);
+        double rate = 0.0d;
+        if (this.taken.get() >= size) {
+            rate = (double) count / size;
+        }
+        return rate;
+    }
+}
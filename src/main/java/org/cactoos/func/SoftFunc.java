@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.lang.ref.SoftReference;
+import org.cactoos.Func;
+
+/**
+ * Func that caches previously calculated values through soft references.
+ *
+ * <p>Unlike {@link SolidFunc}, this cache never causes
+ * {@link OutOfMemoryError}: under heap pressure the garbage collector
+ * clears the values, and they are calculated again when needed.
+ * Cleared entries are removed from the cache by a reference queue.</p>
+ *
+ * <p>The same value may be calculated twice, if it is requested by a few
+ * threads at once. To avoid that, decorate the original function with
+ * {@link SingleFlightFunc}. NULL results are not cached.</p>
+ *
+ * <p>Inputs must not be NULL.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see WeakFunc
+ * @since 1.0
+ */
+public final class SoftFunc<X, Y> extends FuncEnvelope<X, Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     */
+    public SoftFunc(final Func<X, Y> fnc) {
+        super(new ReferencedFunc<>(fnc, SoftReference::new));
+    }
+}
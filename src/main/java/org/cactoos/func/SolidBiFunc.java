@@ -4,11 +4,17 @@
  */
 package org.cactoos.func;
 
+import java.util.AbstractMap;
+import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
 
 /**
  * BiFunc that is thread-safe and sticky.
  *
+ * <p>The cache is the one of {@link SolidFunc}, keyed by pairs
+ * of arguments, which may be NULL.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -33,6 +39,36 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Max buffer length
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final CacheStats stats) {
+        this(
+            new SolidFunc<Map.Entry<X, Y>, Z>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue()),
+                max,
+                stats
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param solid Solid func of pairs of arguments
+     */
+    private SolidBiFunc(final Func<Map.Entry<X, Y>, Z> solid) {
+        super(
+            (first, second) -> solid.apply(
+                new AbstractMap.SimpleImmutableEntry<>(first, second)
+            )
+        );
     }
 }
@@ -4,11 +4,27 @@
  */
 package org.cactoos.func;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import org.cactoos.Func;
 
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>Cached values are read without any locking. A missing value is
+ * calculated under a lock of its own key only, so threads asking for
+ * different keys never wait for each other, while threads asking for
+ * the same key wait for a single calculation.</p>
+ *
+ * <p>When the cache grows beyond its maximum size, the least recently
+ * used entries are evicted, using the "second chance" (CLOCK)
+ * approximation of LRU.</p>
+ *
+ * <p>A NULL input is cached like any other one.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -17,11 +33,36 @@ import org.cactoos.Func;
  */
 public final class SolidFunc<X, Y> implements Func<X, Y> {
 
+    /**
+     * Key of the NULL input, which the cache can't keep as it is.
+     */
+    private static final Object NULL = new Object();
+
     /**
      * Original func.
      */
     private final Func<X, Y> func;
 
+    /**
+     * Cache.
+     */
+    private final ConcurrentMap<Object, CacheEntry<Y>> cache;
+
+    /**
+     * Keys in order of their insertion, for eviction.
+     */
+    private final Queue<Object> order;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int size;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
     /**
      * Ctor.
      * @param fnc Original function
@@ -37,11 +78,67 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param max Max caching buffer length
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public SolidFunc(final Func<X, Y> fnc, final int max,
+        final CacheStats stats) {
+        this.func = fnc;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.order = new ConcurrentLinkedQueue<>();
+        this.size = max;
+        this.stats = stats;
+        this.stats.attach(this.cache, Map::size);
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input);
+        Object key = input;
+        if (key == null) {
+            key = SolidFunc.NULL;
+        }
+        CacheEntry<Y> entry = this.cache.get(key);
+        if (entry == null) {
+            final CacheEntry<Y> fresh = new CacheEntry<>(
+                () -> this.func.apply(input),
+                this.stats
+            );
+            entry = this.cache.putIfAbsent(key, fresh);
+            if (entry == null) {
+                entry = fresh;
+                if (this.size < Integer.MAX_VALUE) {
+                    this.order.add(key);
+                    this.evict();
+                }
+            }
+        }
+        return entry.value();
+    }
+
+    /**
+     * Evict entries until the cache fits its maximum size.
+     */
+    private void evict() {
+        while (this.cache.size() > this.size) {
+            final Object key = this.order.poll();
+            if (key == null) {
+                break;
+            }
+            final CacheEntry<Y> entry = this.cache.get(key);
+            if (entry != null) {
+                if (entry.recent()) {
+                    this.order.add(key);
+                } else if (this.cache.remove(key, entry)) {
+                    this.stats.evicted();
+                }
+            }
+        }
     }
 }
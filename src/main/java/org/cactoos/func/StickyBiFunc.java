@@ -18,7 +18,8 @@ import org.cactoos.scalar.Sticky;
  * recommended to always decorate it with {@link SyncBiFunc}.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache. When it grows beyond its maximum size, the least recently
+ * used entries are evicted first.</p>
  *
  * <p>There is no thread-safety guarantee.
  * @param <X> Type of input
@@ -44,6 +45,11 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      */
     private final int size;
 
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
     /**
      * Ctor.
      * @param fnc Func original
@@ -59,9 +65,24 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @since 0.26
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum buffer size
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final CacheStats stats) {
         this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
+        // @checkstyle MagicNumberCheck (1 line)
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
         this.size = max;
+        this.stats = stats;
+        this.stats.attach(this.cache, Map::size);
     }
 
     @Override
@@ -69,11 +90,16 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
         final Map.Entry<X, Y> key = new MapEntry<>(first, second);
         while (this.cache.size() > this.size) {
             this.cache.remove(this.cache.keySet().iterator().next());
+            this.stats.evicted();
         }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
+        Z value = this.cache.get(key);
+        if (value == null && !this.cache.containsKey(key)) {
+            value = this.stats.miss(() -> this.func.apply(first, second));
+            this.cache.put(key, value);
+        } else {
+            this.stats.hit();
         }
-        return this.cache.get(key);
+        return value;
     }
 
 }
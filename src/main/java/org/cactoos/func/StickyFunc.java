@@ -4,7 +4,8 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.cactoos.Func;
 import org.cactoos.scalar.Sticky;
 
@@ -13,7 +14,9 @@ import org.cactoos.scalar.Sticky;
  * recalculate again.
  *
  * <p>This {@link Func} decorator technically is an in-memory
- * cache.</p>
+ * cache, keyed by inputs themselves, without any wrapping. When it
+ * grows beyond its maximum size, the least recently used entries are
+ * evicted first.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link SyncFunc}.</p>
@@ -28,9 +31,24 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Y> cache;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int size;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
 
     /**
      * Ctor.
@@ -47,15 +65,40 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum cache size
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public StickyFunc(final Func<X, Y> fnc, final int max,
+        final CacheStats stats) {
+        this.func = fnc;
+        // @checkstyle MagicNumberCheck (1 line)
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+        this.size = max;
+        this.stats = stats;
+        this.stats.attach(this.cache, Map::size);
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        while (this.cache.size() > this.size) {
+            this.cache.remove(this.cache.keySet().iterator().next());
+            this.stats.evicted();
+        }
+        Y value = this.cache.get(input);
+        if (value == null && !this.cache.containsKey(input)) {
+            value = this.stats.miss(() -> this.func.apply(input));
+            this.cache.put(input, value);
+        } else {
+            this.stats.hit();
+        }
+        return value;
     }
 
 }
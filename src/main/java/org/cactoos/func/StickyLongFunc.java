@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.Func;
+
+/**
+ * Func of long that caches previously calculated values and doesn't
+ * recalculate again.
+ *
+ * <p>Unlike {@link StickyFunc}, it keeps the keys as primitives,
+ * in an open-addressing hash table with linear probing, so
+ * {@link #apply(int)} doesn't allocate anything when the value is
+ * in the cache. Only a miss boxes the key, to call the original
+ * function. When the cache holds the maximum number of keys, it is
+ * cleared entirely.</p>
+ *
+ * <pre>{@code
+ * final StickyLongFunc<String> names = new StickyLongFunc<>(
+ *     id -> database.name(id)
+ * );
+ * final String name = names.apply(42L);
+ * }</pre>
+ *
+ * <p>Pay attention that this class is not thread-safe. It is highly
+ * recommended to always decorate it with {@link SyncFunc}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of output
+ * @see StickyIntFunc
+ * @since 1.0
+ */
+public final class StickyLongFunc<Y> implements Func<Long, Y> {
+
+    /**
+     * Keys and values, in one hash table.
+     */
+    private final PrimitiveTable<Y> table;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     */
+    public StickyLongFunc(final Func<Long, Y> fnc) {
+        this(fnc, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum number of cached keys
+     * @since 1.0
+     */
+    public StickyLongFunc(final Func<Long, Y> fnc, final int max) {
+        this.table = new PrimitiveTable<>(fnc, max);
+    }
+
+    @Override
+    public Y apply(final Long input) throws Exception {
+        return this.apply(input.longValue());
+    }
+
+    /**
+     * Apply it to a primitive input.
+     * @param input The input
+     * @return The value
+     * @throws Exception If fails
+     */
+    public Y apply(final long input) throws Exception {
+        return this.table.apply(input);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Func;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Func that completes its {@link CompletableFuture} with
+ * {@link TimeoutException}, if it doesn't complete in time.
+ *
+ * <p>Unlike {@link Timed}, no thread waits for the result: the timeout
+ * is a task of a scheduler, which is cancelled as soon as the future
+ * completes. The scheduler may be shared by many functions, so thousands
+ * of calls in flight need only one thread to watch their deadlines.
+ * By default, all instances of this class share one scheduler with
+ * one daemon thread.</p>
+ *
+ * <p>The timeout doesn't interrupt the computation behind the future,
+ * it only completes the future, the same way
+ * {@code CompletableFuture#orTimeout()} of Java 9 does.</p>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see AsyncStage
+ * @since 1.0
+ */
+public final class TimedStage<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * Origin function.
+     */
+    private final Func<X, CompletableFuture<Y>> func;
+
+    /**
+     * Timeout.
+     */
+    private final Duration timeout;
+
+    /**
+     * Scheduler of timeouts.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param time Timeout
+     */
+    public TimedStage(final Func<X, CompletableFuture<Y>> fnc,
+        final Duration time) {
+        this(fnc, time, new SharedScheduler().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Origin function
+     * @param time Timeout
+     * @param timer Scheduler of timeouts
+     */
+    public TimedStage(final Func<X, CompletableFuture<Y>> fnc,
+        final Duration time, final ScheduledExecutorService timer) {
+        this.func = fnc;
+        this.timeout = time;
+        this.scheduler = timer;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        final CompletableFuture<Y> future = this.func.apply(input);
+        if (!future.isDone()) {
+            final ScheduledFuture<?> timer = this.scheduler.schedule(
+                () -> future.completeExceptionally(
+                    new TimeoutException(
+                        new UncheckedText(
+                            new FormattedText(
+                                "Didn't complete in %s", this.timeout
+                            )
+                        ).asString()
+                    )
+                ),
+                this.timeout.toNanos(),
+                TimeUnit.NANOSECONDS
+            );
+            future.whenComplete((result, error) -> timer.cancel(false));
+        }
+        return future;
+    }
+}
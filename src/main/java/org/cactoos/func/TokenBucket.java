@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+
+/**
+ * Budget of calls per period of time, which may be shared by many
+ * functions calling the same dependency.
+ *
+ * <p>The bucket holds up to a number of permits, which are refilled
+ * evenly over time, from a monotonic clock. A call takes one permit,
+ * so a burst may take all permits at once, while in the long run calls
+ * can't happen faster than the rate:</p>
+ *
+ * <pre>{@code
+ * final TokenBucket budget = new TokenBucket(100, Duration.ofSeconds(1L));
+ * final Func<String, User> users = new RateLimitedFunc<>(
+ *     id -> remote.user(id), budget
+ * );
+ * final Func<String, Order> orders = new RateLimitedFunc<>(
+ *     id -> remote.order(id), budget
+ * );
+ * }</pre>
+ *
+ * <p>There are no locks inside: the bucket keeps only the time when
+ * it will be full again, in an {@link AtomicLong}, which is updated
+ * by one CAS per permit (the "generic cell rate" algorithm). A permit
+ * that has to wait is reserved at once, so waiting callers are served
+ * in the order they came.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see RateLimitedFunc
+ * @see org.cactoos.proc.RateLimitedProc
+ * @since 1.0
+ */
+public final class TokenBucket {
+
+    /**
+     * Nanoseconds between permits.
+     */
+    private final long interval;
+
+    /**
+     * Nanoseconds of permits the bucket may hold.
+     */
+    private final long capacity;
+
+    /**
+     * Monotonic clock, in nanoseconds.
+     */
+    private final Scalar<Long> clock;
+
+    /**
+     * Time when the bucket is full, or {@link Long#MIN_VALUE}
+     * before the first permit is taken.
+     */
+    private final AtomicLong full;
+
+    /**
+     * Ctor.
+     * @param permits Permits per period, which is also the size of a burst
+     * @param period The period
+     */
+    public TokenBucket(final int permits, final Duration period) {
+        this(permits, period, permits);
+    }
+
+    /**
+     * Ctor.
+     * @param permits Permits per period
+     * @param period The period
+     * @param burst Maximum number of permits to take at once
+     */
+    public TokenBucket(final int permits, final Duration period,
+        final int burst) {
+        this(permits, period, burst, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param permits Permits per period
+     * @param period The period
+     * @param burst Maximum number of permits to take at once
+     * @param clock Monotonic clock, in nanoseconds
+     */
+    public TokenBucket(final int permits, final Duration period,
+        final int burst, final Scalar<Long> clock) {
+        this.interval = Math.max(1L, period.toNanos() / permits);
+        this.capacity = this.interval * burst;
+        this.clock = clock;
+        this.full = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * Take a permit, waiting for it as long as needed.
+     * @throws Exception If fails or interrupted
+     */
+    public void acquire() throws Exception {
+        TimeUnit.NANOSECONDS.sleep(this.reserve(Long.MAX_VALUE));
+    }
+
+    /**
+     * Take a permit, if it is available in time.
+     * @param timeout How long to wait for the permit at most,
+     *  {@link Duration#ZERO} to not wait at all
+     * @return TRUE if the permit is taken
+     * @throws Exception If fails or interrupted
+     */
+    public boolean acquire(final Duration timeout) throws Exception {
+        long limit = Long.MAX_VALUE;
+        if (timeout.compareTo(Duration.ofNanos(Long.MAX_VALUE)) < 0) {
+            limit = timeout.toNanos();
+        }
+        final long wait = this.reserve(limit);
+        final boolean taken = wait >= 0L;
+        if (wait > 0L) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return taken;
+    }
+
+    /**
+     * Reserve a permit.
+     * @param limit Maximum wait for it, in nanoseconds
+     * @return How long to wait for the permit, in nanoseconds,
+     *  or -1 if it would take longer than the limit
+     * @throws Exception If fails
+     */
+    private long reserve(final long limit) throws Exception {
+        long wait = -1L;
+        while (true) {
+            final long now = this.clock.value();
+            final long before = this.full.get();
+            long start = now;
+            if (before != Long.MIN_VALUE && before - now > 0L) {
+                start = before;
+            }
+            final long after = start + this.interval;
+            final long delay = Math.max(0L, after - now - this.capacity);
+            if (delay > limit) {
+                break;
+            }
+            if (this.full.compareAndSet(before, after)) {
+                wait = delay;
+                break;
+            }
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.lang.ref.WeakReference;
+import org.cactoos.Func;
+
+/**
+ * Func that caches previously calculated values through weak references.
+ *
+ * <p>A value stays in the cache only while somebody else holds
+ * a strong reference to it. When the garbage collector clears it, it
+ * is calculated again on the next call. Cleared entries are removed
+ * from the cache by a reference queue.</p>
+ *
+ * <p>The same value may be calculated twice, if it is requested by a few
+ * threads at once. To avoid that, decorate the original function with
+ * {@link SingleFlightFunc}. NULL results are not cached.</p>
+ *
+ * <p>Inputs must not be NULL.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see SoftFunc
+ * @see WeakKeysFunc
+ * @since 1.0
+ */
+public final class WeakFunc<X, Y> extends FuncEnvelope<X, Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     */
+    public WeakFunc(final Func<X, Y> fnc) {
+        super(new ReferencedFunc<>(fnc, WeakReference::new));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.cactoos.Func;
+
+/**
+ * Func that caches previously calculated values, holding its inputs
+ * through weak references.
+ *
+ * <p>When an input is not referenced by anybody else anymore, the garbage
+ * collector may reclaim it, and its entry leaves the cache. It is
+ * useful when the cache is keyed by short-lived objects, like requests
+ * or sessions. Reclaimed entries are expunged through a reference queue
+ * on every access. Pay attention that a value must not refer to its own
+ * input, otherwise the input will never be reclaimed.</p>
+ *
+ * <p>The map is locked only for reading and writing entries, while
+ * the values are calculated outside of the lock. The same value may be
+ * calculated twice, if it is requested by a few threads at once.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see WeakFunc
+ * @since 1.0
+ */
+public final class WeakKeysFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Y> cache;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     */
+    public WeakKeysFunc(final Func<X, Y> fnc) {
+        this.func = fnc;
+        this.cache = new WeakHashMap<>(0);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        Y value;
+        final boolean found;
+        synchronized (this.cache) {
+            value = this.cache.get(input);
+            found = value != null || this.cache.containsKey(input);
+        }
+        if (!found) {
+            value = this.func.apply(input);
+            synchronized (this.cache) {
+                this.cache.put(input, value);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import org.cactoos.Func;
+
+/**
+ * Number of values in a cache, which doesn't keep the cache from
+ * being garbage collected.
+ *
+ * <p>Once the cache is collected, this object is put into the queue
+ * given to the constructor, so that the owner can forget it.</p>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <T> Type of cache
+ * @since 1.0
+ */
+final class WeakSize<T> extends WeakReference<T> {
+
+    /**
+     * Number of values in the cache.
+     */
+    private final Func<? super T, Integer> size;
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     * @param size Number of values in the cache
+     * @param collected Queue to put this object into, once the cache
+     *  is collected
+     */
+    WeakSize(final T cache, final Func<? super T, Integer> size,
+        final ReferenceQueue<Object> collected) {
+        super(cache, collected);
+        this.size = size;
+    }
+
+    /**
+     * Number of values in the cache now.
+     * @return Number of values, or zero if the cache is collected
+     */
+    long value() {
+        final T origin = this.get();
+        long value = 0L;
+        if (origin != null) {
+            value = new UncheckedFunc<>(this.size).apply(origin);
+        }
+        return value;
+    }
+}
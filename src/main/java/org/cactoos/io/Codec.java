@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Format of items in a binary stream, for example in the runs of
+ * {@link org.cactoos.iterator.ExternalSorted}.
+ *
+ * <pre>{@code
+ * final Codec<String> codec = new Codec.Utf8();
+ * codec.write("Hello, world!", output);
+ * final String text = codec.read(input);
+ * }</pre>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+public interface Codec<T> {
+
+    /**
+     * Write the item.
+     * @param item The item
+     * @param output Where to write it
+     * @throws IOException If fails
+     */
+    void write(T item, DataOutput output) throws IOException;
+
+    /**
+     * Read the item, written by {@link #write(Object, DataOutput)}.
+     * @param input Where to read it from
+     * @return The item
+     * @throws IOException If fails
+     */
+    T read(DataInput input) throws IOException;
+
+    /**
+     * Text, as its length and UTF-8 bytes.
+     *
+     * <p>Unlike {@link DataOutput#writeUTF(String)}, it writes texts of any
+     * length.</p>
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Utf8 implements Codec<String> {
+
+        @Override
+        public void write(final String item, final DataOutput output)
+            throws IOException {
+            final byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        @Override
+        public String read(final DataInput input) throws IOException {
+            final byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -7,14 +7,29 @@ package org.cactoos.io;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import org.cactoos.Func;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
+import org.cactoos.func.UncheckedFunc;
 import org.cactoos.scalar.IoChecked;
 import org.cactoos.scalar.LengthOf;
 
 /**
  * Input that reads only once.
  *
+ * <p>The content is cached by {@link org.cactoos.scalar.Sticky} by
+ * default. For a big content, which may be read again if the memory
+ * is short, give it another cache, like
+ * {@link org.cactoos.scalar.Soft}:</p>
+ *
+ * <pre>{@code
+ * final Input input = new Sticky(
+ *     new InputOf(new File("big.bin")),
+ *     org.cactoos.scalar.Soft::new
+ * );
+ * }</pre>
+ *
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link SyncInput}.</p>
  *
@@ -34,7 +49,28 @@ public final class Sticky implements Input {
      * @param input The input
      */
     public Sticky(final Input input) {
-        this.cache = new org.cactoos.scalar.Sticky<>(
+        this(input, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public Sticky(final Input input, final CacheStats stats) {
+        this(input, content -> new org.cactoos.scalar.Sticky<>(content, stats));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param cache Cache of the content
+     * @since 1.0
+     */
+    public Sticky(final Input input,
+        final Func<Scalar<byte[]>, Scalar<byte[]>> cache) {
+        this.cache = new UncheckedFunc<>(cache).apply(
             () -> {
                 final ByteArrayOutputStream baos = new ByteArrayOutputStream();
                 new LengthOf(
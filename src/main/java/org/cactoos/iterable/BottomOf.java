@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.map.MapEntry;
+
+/**
+ * The lowest items of an iterable, in ascending order.
+ *
+ * <p>The result is the same as of {@code new HeadOf<>(count, new
+ * Sorted<>(cmp, src))}, but the source is not sorted: one pass keeps
+ * no more than the count of items in a heap, so it takes
+ * {@code O(n log count)} time and {@code O(count)} memory:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Order> cheapest = new BottomOf<>(
+ *     Comparator.comparing(Order::price), 10, orders
+ * );
+ * }</pre>
+ *
+ * <p>In parallel mode, the source is split into chunks, the lowest items
+ * of every chunk are selected in the threads of the executor, see
+ * {@link ParallelMapped}, and then merged. Every iteration selects the
+ * items again.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @see TopOf
+ * @since 1.0
+ */
+public final class BottomOf<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param count Number of items
+     * @param src The underlying iterable
+     */
+    @SuppressWarnings("unchecked")
+    public BottomOf(final int count, final Iterable<? extends T> src) {
+        this((Comparator<? super T>) Comparator.naturalOrder(), count, src);
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param count Number of items
+     * @param src The underlying iterable
+     */
+    public BottomOf(final Comparator<? super T> cmp, final int count,
+        final Iterable<? extends T> src) {
+        super(
+            new IterableOf<>(
+                () -> BottomOf.values(
+                    new Smallest<T>(cmp, count).apply(BottomOf.indexed(src))
+                ).iterator()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param count Number of items
+     * @param executor The executor to select the items of chunks in
+     * @param chunk Number of items in a chunk
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BottomOf(final Comparator<? super T> cmp, final int count,
+        final ExecutorService executor, final int chunk,
+        final Iterable<? extends T> src) {
+        super(
+            new IterableOf<>(
+                () -> BottomOf.values(
+                    new Smallest<T>(cmp, count).apply(
+                        new Joined<Map.Entry<Integer, T>>(
+                            new ParallelMapped<>(
+                                new Smallest<T>(cmp, count),
+                                executor,
+                                Runtime.getRuntime().availableProcessors(),
+                                new Partitioned<>(chunk, BottomOf.indexed(src))
+                            )
+                        )
+                    )
+                ).iterator()
+            )
+        );
+    }
+
+    /**
+     * Items with their positions.
+     * @param src The items
+     * @param <T> Element type
+     * @return Items with positions
+     */
+    private static <T> Iterable<Map.Entry<Integer, T>> indexed(
+        final Iterable<? extends T> src) {
+        return new MappedWithIndex<>(
+            (item, idx) -> new MapEntry<>(idx, item), src
+        );
+    }
+
+    /**
+     * Items without their positions.
+     * @param selected Items with positions
+     * @param <T> Element type
+     * @return The items
+     */
+    private static <T> Iterable<T> values(
+        final List<Map.Entry<Integer, T>> selected) {
+        return new Mapped<>(Map.Entry::getValue, selected);
+    }
+}
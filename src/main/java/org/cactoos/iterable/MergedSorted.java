@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Sorted iterables merged together, into one sorted iterable.
+ *
+ * <p>Unlike {@code new Sorted<>(new Joined<>(...))}, it merges the
+ * iterables lazily, in memory proportional to their number, see
+ * {@link org.cactoos.iterator.MergedSorted}:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Record> records = new MergedSorted<>(
+ *     Comparator.comparing(Record::time),
+ *     new Mapped<>(shard -> shard.records(), shards)
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of item
+ * @since 1.0
+ */
+public final class MergedSorted<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param items Sorted iterables
+     */
+    @SafeVarargs
+    public MergedSorted(final Comparator<? super T> cmp,
+        final Iterable<? extends T>... items) {
+        this(cmp, new IterableOf<>(items));
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param items Sorted iterables
+     */
+    public MergedSorted(final Comparator<? super T> cmp,
+        final Iterable<? extends Iterable<? extends T>> items) {
+        this(cmp, false, items);
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param distinct Skip items equal to the previous one
+     * @param items Sorted iterables
+     */
+    public MergedSorted(final Comparator<? super T> cmp,
+        final boolean distinct,
+        final Iterable<? extends Iterable<? extends T>> items) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MergedSorted<>(
+                    cmp, distinct,
+                    new Mapped<Iterator<? extends T>>(Iterable::iterator, items)
+                )
+            )
+        );
+    }
+}
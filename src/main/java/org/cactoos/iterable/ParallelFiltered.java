@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+
+/**
+ * Filtered iterable, which checks the next items in many threads,
+ * while the current ones are consumed.
+ *
+ * <p>Unlike {@link Filtered}, which checks every item in the thread that
+ * consumes it, it suits expensive predicates, like regular expressions
+ * or signature checks over many records:</p>
+ *
+ * <pre>{@code
+ * for (final Record valid : new ParallelFiltered<>(
+ *     record -> record.signature().verify(),
+ *     records
+ * )) {
+ *     store.add(valid);
+ * }
+ * }</pre>
+ *
+ * <p>The source is split into chunks and every chunk is filtered in one
+ * task of the executor, so an item costs no more than a call of the
+ * predicate. No more than the lookahead of chunks are filtered ahead,
+ * so the memory stays limited, and the source is pulled lazily, see
+ * {@link ParallelMapped}. The items come in the order of the source, or,
+ * if the order is not kept, chunk by chunk, as soon as they are
+ * filtered.</p>
+ *
+ * <p>By default, chunks have 256 items, the lookahead is the number of
+ * processors, the order is kept and the chunks are filtered in the common
+ * {@link ForkJoinPool}. For blocking predicates, give it an executor
+ * of {@link org.cactoos.experimental.VirtualThreads}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @since 1.0
+ */
+public final class ParallelFiltered<X> extends IterableEnvelope<X> {
+
+    /**
+     * The default number of items in a chunk.
+     */
+    private static final int CHUNK = 256;
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param src Source iterable
+     */
+    public ParallelFiltered(final Func<? super X, Boolean> fnc,
+        final Iterable<? extends X> src) {
+        this(
+            fnc, ParallelFiltered.CHUNK,
+            Runtime.getRuntime().availableProcessors(), src
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param chunk Number of items in a chunk
+     * @param lookahead Maximum number of chunks filtered ahead
+     * @param src Source iterable
+     */
+    public ParallelFiltered(final Func<? super X, Boolean> fnc,
+        final int chunk, final int lookahead,
+        final Iterable<? extends X> src) {
+        this(fnc, ForkJoinPool.commonPool(), chunk, lookahead, true, src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Predicate
+     * @param executor The executor to filter the chunks in
+     * @param chunk Number of items in a chunk
+     * @param lookahead Maximum number of chunks filtered ahead
+     * @param ordered Keep the order of the source
+     * @param src Source iterable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelFiltered(final Func<? super X, Boolean> fnc,
+        final ExecutorService executor, final int chunk, final int lookahead,
+        final boolean ordered, final Iterable<? extends X> src) {
+        super(
+            new Joined<X>(
+                new ParallelMapped<>(
+                    (Iterable<X> part) -> new ListOf<>(
+                        new Filtered<>(fnc, part)
+                    ),
+                    executor, lookahead, ordered,
+                    new Partitioned<>(chunk, src)
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+
+/**
+ * Mapped iterable, which maps the next items in many threads, while
+ * the current ones are consumed.
+ *
+ * <p>Unlike {@link Mapped}, which maps every item in the thread that
+ * consumes it, it suits expensive functions, like parsing or remote
+ * calls:</p>
+ *
+ * <pre>{@code
+ * for (final Page page : new ParallelMapped<>(
+ *     url -> new Page(new TextOf(url).asString()),
+ *     16,
+ *     urls
+ * )) {
+ *     index.add(page);
+ * }
+ * }</pre>
+ *
+ * <p>The items keep the order of the source, no more than the window
+ * of them are mapped ahead and the source is pulled lazily, see
+ * {@link org.cactoos.iterator.ParallelMapped}. By default, the window
+ * is the number of processors and the items are mapped in the common
+ * {@link ForkJoinPool}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+public final class ParallelMapped<Y> extends IterableEnvelope<Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> ParallelMapped(
+        final Func<? super X, ? extends Y> fnc, final Iterable<? extends X> src
+    ) {
+        this(fnc, Runtime.getRuntime().availableProcessors(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param window Maximum number of items mapped ahead
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> ParallelMapped(final Func<? super X, ? extends Y> fnc,
+        final int window, final Iterable<? extends X> src) {
+        this(fnc, ForkJoinPool.commonPool(), window, src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param executor The executor to map the items in
+     * @param window Maximum number of items mapped ahead
+     * @param src Source iterable
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> ParallelMapped(final Func<? super X, ? extends Y> fnc,
+        final ExecutorService executor, final int window,
+        final Iterable<? extends X> src) {
+        this(fnc, executor, window, true, src);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param executor The executor to map the items in
+     * @param window Maximum number of items mapped ahead
+     * @param ordered Keep the order of the source, otherwise the items
+     *  come as soon as they are mapped
+     * @param src Source iterable
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> ParallelMapped(final Func<? super X, ? extends Y> fnc,
+        final ExecutorService executor, final int window,
+        final boolean ordered, final Iterable<? extends X> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.ParallelMapped<>(
+                    fnc, executor, window, ordered, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.cactoos.Func;
+
+/**
+ * Func, which selects the smallest items with a heap, in one pass,
+ * for {@link BottomOf} and {@link TopOf}.
+ *
+ * <p>Items come with their positions in the source, and equal items are
+ * ordered by them, so the result is the same as the head of a stable
+ * sort. The heap keeps the biggest of the selected items on top, and a
+ * new item replaces it, if it is smaller. The result is sorted.</p>
+ *
+ * <p>Objects of this class are thread safe, if the comparator is.</p>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class Smallest<T> implements Func<
+    Iterable<? extends Map.Entry<Integer, T>>, List<Map.Entry<Integer, T>>
+> {
+
+    /**
+     * The biggest initial capacity of the heap.
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * Order of the items, then of their positions.
+     */
+    private final Comparator<Map.Entry<Integer, T>> order;
+
+    /**
+     * Number of items to select.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param count Number of items to select
+     */
+    Smallest(final Comparator<? super T> cmp, final int count) {
+        this.order = Comparator.<Map.Entry<Integer, T>, T>comparing(
+            Map.Entry::getValue, cmp
+        ).thenComparing(Map.Entry::getKey);
+        this.count = count;
+    }
+
+    @Override
+    public List<Map.Entry<Integer, T>> apply(
+        final Iterable<? extends Map.Entry<Integer, T>> items) {
+        final PriorityQueue<Map.Entry<Integer, T>> heap = new PriorityQueue<>(
+            Math.max(1, Math.min(this.count, Smallest.CAPACITY)),
+            this.order.reversed()
+        );
+        for (final Map.Entry<Integer, T> item : items) {
+            if (heap.size() < this.count) {
+                heap.add(item);
+            } else if (!heap.isEmpty()
+                && this.order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+        final List<Map.Entry<Integer, T>> selected = new ArrayList<>(heap);
+        selected.sort(this.order);
+        return selected;
+    }
+}
@@ -5,10 +5,16 @@
 package org.cactoos.iterable;
 
 import java.util.Comparator;
+import org.cactoos.io.Codec;
 
 /**
  * Sorted iterable.
  *
+ * <p>Every iteration sorts the items again, see
+ * {@link org.cactoos.iterator.Sorted}. To sort primitives without
+ * boxing them, use {@link SortedInts}, {@link SortedLongs} or
+ * {@link SortedDoubles}.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -55,9 +61,48 @@ public final class Sorted<T> extends IterableEnvelope<T> {
      * @param src The underlying iterable
      */
     public Sorted(final Comparator<? super T> cmp, final Iterable<? extends T> src) {
+        this(cmp, Integer.MAX_VALUE, src);
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param threshold The smallest number of items to sort in parallel
+     * @param src The underlying iterable
+     * @since 1.0
+     */
+    public Sorted(final Comparator<? super T> cmp, final int threshold,
+        final Iterable<? extends T> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.Sorted<>(
+                    cmp, threshold, src.iterator()
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Items that don't fit in the budget are sorted in temporary files,
+     * see {@link org.cactoos.iterator.ExternalSorted}. The iterator is
+     * {@link java.io.Closeable}, close it to delete the files, if it's
+     * not iterated to the end.</p>
+     *
+     * @param cmp The comparator
+     * @param codec Format of the items in the files
+     * @param budget Maximum number of items in memory
+     * @param src The underlying iterable
+     * @since 1.0
+     */
+    public Sorted(final Comparator<? super T> cmp, final Codec<T> codec,
+        final int budget, final Iterable<? extends T> src) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Sorted<>(cmp, src.iterator())
+                () -> new org.cactoos.iterator.ExternalSorted<>(
+                    cmp, codec, budget, src.iterator()
+                )
             )
         );
     }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Arrays;
+import org.cactoos.iterator.IteratorOfDoubles;
+
+/**
+ * Iterable of double values in ascending order.
+ *
+ * <p>Unlike {@link Sorted} of {@link IterableOfDoubles}, it sorts a copy
+ * of the array of primitives, without boxing them. The order is the one
+ * of {@link Double#compareTo(Double)}: {@code -0.0} comes before
+ * {@code 0.0} and {@code NaN} comes last. Every iteration sorts the
+ * values again. Big arrays may be sorted with
+ * {@link Arrays#parallelSort(double[])}, in the common
+ * {@link java.util.concurrent.ForkJoinPool}, if a threshold is
+ * given.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SortedDoubles extends IterableEnvelope<Double> {
+
+    /**
+     * Ctor.
+     * @param values Double values
+     */
+    public SortedDoubles(final double... values) {
+        this(Integer.MAX_VALUE, values);
+    }
+
+    /**
+     * Ctor.
+     * @param threshold The smallest number of values to sort in parallel
+     * @param values Double values
+     */
+    public SortedDoubles(final int threshold, final double[] values) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final double[] sorted = values.clone();
+                    if (sorted.length >= threshold) {
+                        Arrays.parallelSort(sorted);
+                    } else {
+                        Arrays.sort(sorted);
+                    }
+                    return new IteratorOfDoubles(sorted);
+                }
+            )
+        );
+    }
+}
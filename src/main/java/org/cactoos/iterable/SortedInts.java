@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Arrays;
+import org.cactoos.iterator.IteratorOfInts;
+
+/**
+ * Iterable of int values in ascending order.
+ *
+ * <p>Unlike {@link Sorted} of {@link IterableOfInts}, it sorts a copy of
+ * the array of primitives, without boxing them. Every iteration
+ * sorts the values again. Big arrays may be sorted with
+ * {@link Arrays#parallelSort(int[])}, in the common
+ * {@link java.util.concurrent.ForkJoinPool}, if a threshold is
+ * given.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SortedInts extends IterableEnvelope<Integer> {
+
+    /**
+     * Ctor.
+     * @param values Integer values
+     */
+    public SortedInts(final int... values) {
+        this(Integer.MAX_VALUE, values);
+    }
+
+    /**
+     * Ctor.
+     * @param threshold The smallest number of values to sort in parallel
+     * @param values Integer values
+     */
+    public SortedInts(final int threshold, final int[] values) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final int[] sorted = values.clone();
+                    if (sorted.length >= threshold) {
+                        Arrays.parallelSort(sorted);
+                    } else {
+                        Arrays.sort(sorted);
+                    }
+                    return new IteratorOfInts(sorted);
+                }
+            )
+        );
+    }
+}
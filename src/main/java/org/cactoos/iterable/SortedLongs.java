@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Arrays;
+import org.cactoos.iterator.IteratorOfLongs;
+
+/**
+ * Iterable of long values in ascending order.
+ *
+ * <p>Unlike {@link Sorted} of {@link IterableOfLongs}, it sorts a copy of
+ * the array of primitives, without boxing them. Every iteration
+ * sorts the values again. Big arrays may be sorted with
+ * {@link Arrays#parallelSort(long[])}, in the common
+ * {@link java.util.concurrent.ForkJoinPool}, if a threshold is
+ * given.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SortedLongs extends IterableEnvelope<Long> {
+
+    /**
+     * Ctor.
+     * @param values Long values
+     */
+    public SortedLongs(final long... values) {
+        this(Integer.MAX_VALUE, values);
+    }
+
+    /**
+     * Ctor.
+     * @param threshold The smallest number of values to sort in parallel
+     * @param values Long values
+     */
+    public SortedLongs(final int threshold, final long[] values) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final long[] sorted = values.clone();
+                    if (sorted.length >= threshold) {
+                        Arrays.parallelSort(sorted);
+                    } else {
+                        Arrays.sort(sorted);
+                    }
+                    return new IteratorOfLongs(sorted);
+                }
+            )
+        );
+    }
+}
@@ -4,6 +4,7 @@
  */
 package org.cactoos.iterable;
 
+import org.cactoos.func.CacheStats;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.Mapped;
 
@@ -31,12 +32,24 @@ public final class Sticky<X> extends IterableEnvelope<X> {
      * @param iterable The iterable
      */
     public Sticky(final Iterable<? extends X> iterable) {
+        this(iterable, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param iterable The iterable
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public Sticky(final Iterable<? extends X> iterable,
+        final CacheStats stats) {
         super(
             new IterableOf<>(
                 new Mapped<>(
                     Iterable::iterator,
                     new org.cactoos.scalar.Sticky<>(
-                        () -> new ListOf<>(iterable)
+                        () -> new ListOf<>(iterable),
+                        stats
                     )
                 )
             )
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The highest items of an iterable, in descending order.
+ *
+ * <p>The result is the same as of {@code new HeadOf<>(count, new
+ * Sorted<>(Collections.reverseOrder(cmp), src))}, but the source is not
+ * sorted, see {@link BottomOf}:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Player> leaders = new TopOf<>(
+ *     Comparator.comparing(Player::score), 3, players
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+public final class TopOf<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param count Number of items
+     * @param src The underlying iterable
+     */
+    @SuppressWarnings("unchecked")
+    public TopOf(final int count, final Iterable<? extends T> src) {
+        this((Comparator<? super T>) Comparator.naturalOrder(), count, src);
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param count Number of items
+     * @param src The underlying iterable
+     */
+    public TopOf(final Comparator<? super T> cmp, final int count,
+        final Iterable<? extends T> src) {
+        super(new BottomOf<>(Collections.reverseOrder(cmp), count, src));
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param count Number of items
+     * @param executor The executor to select the items of chunks in
+     * @param chunk Number of items in a chunk
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TopOf(final Comparator<? super T> cmp, final int count,
+        final ExecutorService executor, final int chunk,
+        final Iterable<? extends T> src) {
+        super(
+            new BottomOf<>(
+                Collections.reverseOrder(cmp), count, executor, chunk, src
+            )
+        );
+    }
+}
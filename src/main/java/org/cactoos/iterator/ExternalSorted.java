@@ -0,0 +1,259 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.io.Codec;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Sorted iterator, which sorts more items than fit in memory.
+ *
+ * <p>The items are read into memory in runs, no more than the budget in
+ * each. Every run is sorted and written to a {@link TempFile} through
+ * the codec. On iteration, the runs are merged with a heap, which
+ * holds one item of every run:</p>
+ *
+ * <pre>{@code
+ * try (ExternalSorted<String> lines = new ExternalSorted<>(
+ *     Comparator.naturalOrder(), new Codec.Utf8(), 1_000_000,
+ *     new Split(new TextOf(log), "\n").iterator()
+ * )) {
+ *     while (lines.hasNext()) {
+ *         out.println(lines.next());
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>If all items fit in the budget, no files are written. Nothing is
+ * read from the source before the first call to {@link #hasNext()} or
+ * {@link #next()}. The files are deleted when the last item is returned
+ * or the iterator is closed. The sort is stable.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @see Sorted
+ * @since 1.0
+ */
+public final class ExternalSorted<T> implements Iterator<T>, Closeable {
+
+    /**
+     * Initial capacity of the array.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * The underlying iterator.
+     */
+    private final Iterator<? extends T> source;
+
+    /**
+     * The comparator.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Format of the items in the files.
+     */
+    private final Codec<T> codec;
+
+    /**
+     * Maximum number of items in memory.
+     */
+    private final int budget;
+
+    /**
+     * Sorted items, when they are sorted.
+     */
+    private final AtomicReference<Iterator<T>> sorted;
+
+    /**
+     * Ctor.
+     * @param comparator The comparator
+     * @param codec Format of the items in the files
+     * @param budget Maximum number of items in memory
+     * @param iterator The underlying iterator
+     */
+    public ExternalSorted(final Comparator<? super T> comparator,
+        final Codec<T> codec, final int budget,
+        final Iterator<? extends T> iterator) {
+        this.source = iterator;
+        this.comparator = comparator;
+        this.codec = codec;
+        this.budget = budget;
+        this.sorted = new AtomicReference<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.items().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.items().next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        final Iterator<T> items = this.sorted.get();
+        if (items instanceof Closeable) {
+            ((Closeable) items).close();
+        }
+    }
+
+    /**
+     * Sorted items, sorted on the first call.
+     * @return The items
+     */
+    private Iterator<T> items() {
+        if (this.sorted.get() == null) {
+            this.sorted.set(new Unchecked<>(this::sort).value());
+        }
+        return this.sorted.get();
+    }
+
+    /**
+     * Sort the items, in memory or in runs.
+     * @return Sorted items
+     * @throws Exception If fails
+     */
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingGenericException"})
+    private Iterator<T> sort() throws Exception {
+        if (this.budget < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The budget must be positive: %d", this.budget
+                    )
+                ).asString()
+            );
+        }
+        final List<TempFile> runs = new ArrayList<>(0);
+        Iterator<T> result = null;
+        try {
+            Object[] items = new Object[
+                Math.min(this.budget, ExternalSorted.CAPACITY)
+            ];
+            do {
+                int size = 0;
+                while (size < this.budget && this.source.hasNext()) {
+                    if (size == items.length) {
+                        items = Arrays.copyOf(
+                            items,
+                            (int) Math.min(
+                                this.budget, (long) size + (size >> 1) + 1L
+                            )
+                        );
+                    }
+                    items[size] = this.source.next();
+                    ++size;
+                }
+                Arrays.sort((T[]) items, 0, size, this.comparator);
+                if (runs.isEmpty() && !this.source.hasNext()) {
+                    result = Arrays.asList((T[]) items)
+                        .subList(0, size)
+                        .iterator();
+                } else {
+                    final TempFile run = new TempFile(
+                        "cactoos-sorted-", ".run"
+                    );
+                    runs.add(run);
+                    this.spill(run, (T[]) items, size);
+                }
+            } while (this.source.hasNext());
+            if (result == null) {
+                result = this.merged(runs);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            for (final TempFile run : runs) {
+                run.close();
+            }
+            throw ex;
+        }
+        return result;
+    }
+
+    /**
+     * Write a sorted run to a file.
+     * @param file The file
+     * @param items The items
+     * @param size Number of items
+     * @throws Exception If fails
+     */
+    private void spill(final TempFile file, final T[] items, final int size)
+        throws Exception {
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(new OutputTo(file.value()).stream())
+        )) {
+            output.writeInt(size);
+            for (int idx = 0; idx < size; ++idx) {
+                this.codec.write(items[idx], output);
+            }
+        }
+    }
+
+    /**
+     * Open the runs and merge them.
+     * @param runs The files of the runs
+     * @return Merged items
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Iterator<T> merged(final List<TempFile> runs) throws Exception {
+        final List<DataInputStream> inputs = new ArrayList<>(runs.size());
+        final List<Iterator<T>> items = new ArrayList<>(runs.size());
+        final MergedRuns<T> merged;
+        final boolean empty;
+        try {
+            for (final TempFile run : runs) {
+                final DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(
+                        new InputOf(run.value()).stream()
+                    )
+                );
+                inputs.add(input);
+                items.add(
+                    new Repeated<>(
+                        input.readInt(), () -> this.codec.read(input)
+                    )
+                );
+            }
+            merged = new MergedRuns<>(
+                runs, inputs,
+                new HeapMerged<>(this.comparator, false, items)
+            );
+            empty = !merged.hasNext();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            for (final DataInputStream input : inputs) {
+                input.close();
+            }
+            throw ex;
+        }
+        if (empty) {
+            merged.close();
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Sorted iterators merged together with a heap.
+ *
+ * <p>The heap holds the next item of every iterator, with the number of
+ * the iterator, so only one item of every iterator is in memory at a
+ * time. Equal items come in the order of the iterators, or only the
+ * first of them, if duplicates are skipped. Nothing is read from the
+ * iterators before the first call to {@link #hasNext()} or
+ * {@link #next()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Type of item
+ * @see MergedSorted
+ * @see MergedRuns
+ * @since 1.0
+ */
+final class HeapMerged<T> implements Iterator<T> {
+
+    /**
+     * The comparator.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Skip equal items?
+     */
+    private final boolean distinct;
+
+    /**
+     * The iterators.
+     */
+    private final Iterable<? extends Iterator<? extends T>> iterators;
+
+    /**
+     * The iterators, by their numbers, once started.
+     */
+    private final List<Iterator<? extends T>> sources;
+
+    /**
+     * Next items of the iterators, with the numbers of the iterators.
+     */
+    private final PriorityQueue<Map.Entry<Integer, T>> heap;
+
+    /**
+     * Are the iterators started?
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param distinct Skip items equal to the previous one
+     * @param items Sorted iterators
+     */
+    HeapMerged(final Comparator<? super T> cmp, final boolean distinct,
+        final Iterable<? extends Iterator<? extends T>> items) {
+        this.comparator = cmp;
+        this.distinct = distinct;
+        this.iterators = items;
+        this.sources = new ArrayList<>(0);
+        this.heap = new PriorityQueue<>(
+            Comparator.<Map.Entry<Integer, T>, T>comparing(
+                Map.Entry::getValue, cmp
+            ).thenComparing(Map.Entry::getKey)
+        );
+        this.started = new AtomicBoolean();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.started.compareAndSet(false, true)) {
+            for (final Iterator<? extends T> source : this.iterators) {
+                this.sources.add(source);
+                this.advance(this.sources.size() - 1);
+            }
+        }
+        return !this.heap.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements in the sorted iterators"
+            );
+        }
+        final Map.Entry<Integer, T> head = this.heap.poll();
+        this.advance(head.getKey());
+        if (this.distinct) {
+            while (!this.heap.isEmpty() && this.comparator.compare(
+                this.heap.peek().getValue(), head.getValue()
+            ) == 0) {
+                this.advance(this.heap.poll().getKey());
+            }
+        }
+        return head.getValue();
+    }
+
+    /**
+     * Put the next item of the iterator into the heap, if there is one.
+     * @param source Number of the iterator
+     */
+    private void advance(final int source) {
+        final Iterator<? extends T> iterator = this.sources.get(source);
+        if (iterator.hasNext()) {
+            this.heap.add(new MapEntry<>(source, iterator.next()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator, which merges sorted runs of {@link ExternalSorted}.
+ *
+ * <p>The runs are merged by {@link HeapMerged}, so only one item of a
+ * run is in memory at a time. The runs are deleted when the last item
+ * is returned or the iterator is closed.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+final class MergedRuns<T> implements Iterator<T>, Closeable {
+
+    /**
+     * The files of the runs.
+     */
+    private final List<TempFile> files;
+
+    /**
+     * Open streams of the runs.
+     */
+    private final List<DataInputStream> inputs;
+
+    /**
+     * Items of the runs, merged.
+     */
+    private final Iterator<T> merged;
+
+    /**
+     * Ctor.
+     * @param files The files of the runs
+     * @param inputs Open streams of the runs
+     * @param merged Items of the runs, merged
+     */
+    MergedRuns(final List<TempFile> files,
+        final List<DataInputStream> inputs, final Iterator<T> merged) {
+        this.files = files;
+        this.inputs = inputs;
+        this.merged = merged;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.files.isEmpty() && this.merged.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements in the sorted runs"
+            );
+        }
+        return new Unchecked<>(this::advance).value();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+        final Iterable<Closeable> closeables =
+            new org.cactoos.iterable.Joined<Closeable>(this.inputs, this.files);
+        for (final Closeable closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (final IOException ex) {
+                if (error == null) {
+                    error = ex;
+                }
+            }
+        }
+        this.inputs.clear();
+        this.files.clear();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Take the next item and close the runs after the last one.
+     * @return The item
+     * @throws IOException If fails
+     */
+    private T advance() throws IOException {
+        final T item = this.merged.next();
+        if (!this.merged.hasNext()) {
+            this.close();
+        }
+        return item;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Sorted iterators merged together, into one sorted iterator.
+ *
+ * <p>Unlike {@code new Sorted<>(new Joined<>(...))}, it doesn't read all
+ * items into memory: a heap holds the next item of every iterator, so
+ * the memory is proportional to the number of iterators. Every iterator
+ * must be sorted by the same comparator. Equal items come in the order
+ * of the iterators, the way a stable sort of joined iterators returns
+ * them, or only the first of them, if duplicates are skipped:</p>
+ *
+ * <pre>{@code
+ * final Iterator<String> names = new MergedSorted<>(
+ *     Comparator.naturalOrder(), true,
+ *     new IterableOf<>(first.iterator(), second.iterator())
+ * );
+ * }</pre>
+ *
+ * <p>Nothing is read from the iterators before the first call to
+ * {@link #hasNext()} or {@link #next()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of item
+ * @see HeapMerged
+ * @since 1.0
+ */
+public final class MergedSorted<T> extends IteratorEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param items Sorted iterators
+     */
+    @SafeVarargs
+    public MergedSorted(final Comparator<? super T> cmp,
+        final Iterator<? extends T>... items) {
+        this(cmp, new IterableOf<>(items));
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param items Sorted iterators
+     */
+    public MergedSorted(final Comparator<? super T> cmp,
+        final Iterable<? extends Iterator<? extends T>> items) {
+        this(cmp, false, items);
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param distinct Skip items equal to the previous one
+     * @param items Sorted iterators
+     */
+    public MergedSorted(final Comparator<? super T> cmp,
+        final boolean distinct,
+        final Iterable<? extends Iterator<? extends T>> items) {
+        super(new HeapMerged<>(cmp, distinct, items));
+    }
+}
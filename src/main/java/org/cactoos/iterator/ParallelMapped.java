@@ -0,0 +1,217 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Mapped iterator, which applies the function to the next items in
+ * the threads of an executor, while the current ones are consumed.
+ *
+ * <p>No more than the window of items are mapped ahead, so the memory
+ * stays limited. The source is only pulled when there is room in the
+ * window, and not before the first call to {@link #hasNext()} or
+ * {@link #next()}. The items come in the order of the source, or,
+ * if the order is not kept, as soon as they are mapped.</p>
+ *
+ * <p>If the function fails on an item, {@link #next()} throws its
+ * exception, the way {@link Mapped} does, when that item is reached.
+ * The failure ends the iteration: all items mapped ahead are cancelled,
+ * the source is not pulled any more, and {@link #hasNext()} returns
+ * FALSE. Items abandoned without reaching the end are mapped
+ * anyway.</p>
+ *
+ * <p>The source is only used in the thread of the consumer.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+public final class ParallelMapped<Y> implements Iterator<Y> {
+
+    /**
+     * Items of the source, submitted to the executor.
+     */
+    private final Iterator<Future<Y>> submitted;
+
+    /**
+     * Maximum number of items mapped ahead.
+     */
+    private final int window;
+
+    /**
+     * Items mapped ahead, in the order of the source.
+     */
+    private final Queue<Future<Y>> ahead;
+
+    /**
+     * The item to return next, taken out of the items mapped ahead.
+     */
+    private final Scalar<Future<Y>> head;
+
+    /**
+     * Has the iteration ended with a failure?
+     */
+    private final AtomicBoolean failed;
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param executor The executor to map the items in
+     * @param window Maximum number of items mapped ahead
+     * @param iterator Source iterator
+     * @param <X> Type of item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> ParallelMapped(final Func<? super X, ? extends Y> func,
+        final ExecutorService executor, final int window,
+        final Iterator<? extends X> iterator) {
+        this(func, executor, window, true, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param func Func
+     * @param executor The executor to map the items in
+     * @param window Maximum number of items mapped ahead
+     * @param ordered Keep the order of the source
+     * @param iterator Source iterator
+     * @param <X> Type of item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> ParallelMapped(final Func<? super X, ? extends Y> func,
+        final ExecutorService executor, final int window,
+        final boolean ordered, final Iterator<? extends X> iterator) {
+        final Queue<Future<Y>> queue = new LinkedList<>();
+        if (ordered) {
+            this.submitted = new Mapped<>(
+                item -> executor.submit(() -> func.apply(item)),
+                iterator
+            );
+            this.head = queue::poll;
+        } else {
+            final CompletionService<Y> done =
+                new ExecutorCompletionService<>(executor);
+            this.submitted = new Mapped<>(
+                item -> done.submit(() -> func.apply(item)),
+                iterator
+            );
+            this.head = () -> {
+                Future<Y> future;
+                do {
+                    future = done.take();
+                } while (!queue.remove(future));
+                return future;
+            };
+        }
+        this.window = window;
+        this.ahead = queue;
+        this.failed = new AtomicBoolean();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.window < 1) {
+            throw new IllegalArgumentException(
+                "The window of items mapped ahead must be positive"
+            );
+        }
+        while (!this.failed.get() && this.ahead.size() < this.window
+            && this.submitted.hasNext()) {
+            this.ahead.add(this.submitted.next());
+        }
+        return !this.ahead.isEmpty();
+    }
+
+    @Override
+    public Y next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements to map"
+            );
+        }
+        return new Unchecked<>(this::result).value();
+    }
+
+    /**
+     * Result of the next item, mapped ahead.
+     * @return The result
+     * @throws Exception If the function failed on the item
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private Y result() throws Exception {
+        Future<Y> future = null;
+        final Y result;
+        try {
+            future = this.head.value();
+            result = future.get();
+        } catch (final ExecutionException ex) {
+            this.cancel();
+            final Throwable cause =
+                ParallelMapped.origin(future, ex.getCause());
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        } catch (final InterruptedException ex) {
+            if (future != null) {
+                future.cancel(true);
+            }
+            this.cancel();
+            throw ex;
+        }
+        return result;
+    }
+
+    /**
+     * The exception thrown by the function.
+     *
+     * <p>A {@link ForkJoinTask} rethrows a copy of the exception, thrown
+     * in another thread, with the original one as the cause. Other
+     * futures throw the exception of the function as it is.</p>
+     *
+     * @param future The future of the task
+     * @param error The exception of the task
+     * @return The exception of the function
+     */
+    private static Throwable origin(final Future<?> future,
+        final Throwable error) {
+        Throwable origin = error;
+        if (future instanceof ForkJoinTask<?>
+            && error != null && error.getCause() != null
+            && error.getClass().equals(error.getCause().getClass())) {
+            origin = error.getCause();
+        }
+        return origin;
+    }
+
+    /**
+     * Cancel all items mapped ahead and end the iteration.
+     */
+    private void cancel() {
+        this.failed.set(true);
+        for (final Future<Y> future : this.ahead) {
+            future.cancel(true);
+        }
+        this.ahead.clear();
+    }
+}
@@ -4,16 +4,21 @@
  */
 package org.cactoos.iterator;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
 /**
  * Sorted iterator.
  *
+ * <p>The items are collected into an array, which is sorted in place,
+ * the way {@link java.util.ArrayList#sort(Comparator)} does it. Big
+ * arrays may be sorted with {@link Arrays#parallelSort}, in the
+ * common {@link java.util.concurrent.ForkJoinPool}, if a threshold is
+ * given. Both sorts are stable.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -21,6 +26,11 @@ import org.cactoos.scalar.Unchecked;
  */
 public final class Sorted<T> implements Iterator<T> {
 
+    /**
+     * Initial capacity of the array.
+     */
+    private static final int CAPACITY = 16;
+
     /**
      * Sorted one.
      */
@@ -46,15 +56,39 @@ public final class Sorted<T> implements Iterator<T> {
      * @param iterator The underlying iterator
      */
     public Sorted(final Comparator<? super T> comparator, final Iterator<? extends T> iterator) {
+        this(comparator, Integer.MAX_VALUE, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param comparator The comparator
+     * @param threshold The smallest number of items to sort in parallel
+     * @param iterator The underlying iterator
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public Sorted(final Comparator<? super T> comparator, final int threshold,
+        final Iterator<? extends T> iterator) {
         this.scalar = new Unchecked<>(
             new Sticky<>(
                 () -> {
-                    final List<T> items = new LinkedList<>();
+                    Object[] items = new Object[Sorted.CAPACITY];
+                    int size = 0;
                     while (iterator.hasNext()) {
-                        items.add(iterator.next());
+                        if (size == items.length) {
+                            items = Arrays.copyOf(items, size + (size >> 1));
+                        }
+                        items[size] = iterator.next();
+                        ++size;
+                    }
+                    if (size >= threshold) {
+                        Arrays.parallelSort((T[]) items, 0, size, comparator);
+                    } else {
+                        Arrays.sort((T[]) items, 0, size, comparator);
                     }
-                    items.sort(comparator);
-                    return items.iterator();
+                    return Arrays.asList((T[]) items)
+                        .subList(0, size)
+                        .iterator();
                 }
             )
         );
@@ -5,8 +5,7 @@
 package org.cactoos.map;
 
 import java.util.Map;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.scalar.HashCode;
+import java.util.Objects;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.UncheckedText;
 
@@ -75,10 +74,17 @@ public final class MapEntry<K, V> implements Map.Entry<K, V> {
             && Map.Entry.class.cast(obj).getValue().equals(this.value);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>It is the same as {@link org.cactoos.scalar.HashCode} of the key
+     * and the value, but doesn't allocate anything, since entries are often
+     * used as keys of caches.</p>
+     */
     @Override
     public int hashCode() {
-        return new HashCode(
-            new IterableOf<>(this.key, this.value)
-        ).value();
+        // @checkstyle MagicNumberCheck (1 line)
+        return 31 * (31 * 17 + Objects.hashCode(this.key))
+            + Objects.hashCode(this.value);
     }
 }
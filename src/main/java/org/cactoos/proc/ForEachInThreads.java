@@ -4,8 +4,13 @@
  */
 package org.cactoos.proc;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Func;
 import org.cactoos.Proc;
+import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
+import org.cactoos.iterable.Mapped;
 import org.cactoos.scalar.AndInThreads;
 
 /**
@@ -39,19 +44,40 @@ public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
      */
     private final Proc<X> proc;
 
+    /**
+     * Factory of the executor service.
+     */
+    private final Scalar<? extends ExecutorService> service;
+
     /**
      * Ctor.
      *
      * @param proc The proc to execute
      */
     public ForEachInThreads(final Proc<X> proc) {
+        this(proc, () -> Executors.newCachedThreadPool());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     * @param svc Factory of the service, which is made for every
+     *  execution and shut down after it, for example
+     *  {@link org.cactoos.experimental.VirtualThreads}
+     */
+    public ForEachInThreads(final Proc<X> proc,
+        final Scalar<? extends ExecutorService> svc) {
         this.proc = proc;
+        this.service = svc;
     }
 
     @Override
     public void exec(final Iterable<X> input) throws Exception {
+        final Func<X, Boolean> func = new FuncOf<>(this.proc, true);
         new AndInThreads(
-            new FuncOf<>(this.proc, true), input
+            this.service,
+            new Mapped<>(item -> () -> func.apply(item), input)
         ).value();
     }
 
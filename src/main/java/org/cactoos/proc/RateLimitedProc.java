@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.Proc;
+import org.cactoos.func.FuncOf;
+import org.cactoos.func.RateLimitedFunc;
+import org.cactoos.func.TokenBucket;
+
+/**
+ * Proc that is called no faster than a {@link TokenBucket} allows.
+ *
+ * <p>Without a timeout, every call waits for its permit as long as
+ * needed. With a timeout, a call that can't get a permit in time
+ * fails with {@link org.cactoos.func.RateLimitException}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the proc is.</p>
+ *
+ * @param <X> Type of input
+ * @since 1.0
+ */
+public final class RateLimitedProc<X> implements Proc<X> {
+
+    /**
+     * The func.
+     */
+    private final Func<X, Boolean> func;
+
+    /**
+     * Ctor.
+     * @param prc Origin proc
+     * @param bucket The budget
+     */
+    public RateLimitedProc(final Proc<? super X> prc,
+        final TokenBucket bucket) {
+        this.func = new RateLimitedFunc<>(new FuncOf<>(prc, true), bucket);
+    }
+
+    /**
+     * Ctor.
+     * @param prc Origin proc
+     * @param bucket The budget
+     * @param timeout How long to wait for a permit at most
+     */
+    public RateLimitedProc(final Proc<? super X> prc,
+        final TokenBucket bucket, final Duration timeout) {
+        this.func = new RateLimitedFunc<>(
+            new FuncOf<>(prc, true), bucket, timeout
+        );
+    }
+
+    @Override
+    public void exec(final X input) throws Exception {
+        this.func.apply(input);
+    }
+}
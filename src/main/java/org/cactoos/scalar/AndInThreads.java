@@ -4,25 +4,24 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Proc;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.text.FormattedText;
 
 /**
  * Logical conjunction, in multiple threads.
  *
  * <p>The usage is same as for {@link And}</p>
  *
+ * <p>As soon as one of the scalars is FALSE or throws, all others still
+ * running are cancelled and interrupted, and the result is returned
+ * without waiting for them.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -40,7 +39,7 @@ public final class AndInThreads implements Scalar<Boolean> {
     /**
      * The service.
      */
-    private final ExecutorService service;
+    private final Scalar<? extends ExecutorService> service;
 
     /**
      * The iterator.
@@ -93,7 +92,21 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(() -> Executors.newCachedThreadPool(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Factory of the service, which is made for every
+     *  calculation and shut down after it, for example
+     *  {@link org.cactoos.experimental.VirtualThreads}, or
+     *  {@link org.cactoos.experimental.SharedExecutor} to reuse the threads
+     * @param src The iterable
+     * @since 1.0
+     */
+    public AndInThreads(final Scalar<? extends ExecutorService> svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(svc, src, true);
     }
 
     /**
@@ -182,7 +195,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this(svc, src, false);
+        this(() -> svc, src, false);
     }
 
     /**
@@ -191,7 +204,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      * @param sht Shut it down
      */
-    private AndInThreads(final ExecutorService svc,
+    private AndInThreads(final Scalar<? extends ExecutorService> svc,
         final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
         this.service = svc;
         this.iterable = src;
@@ -200,30 +213,8 @@ public final class AndInThreads implements Scalar<Boolean> {
 
     @Override
     public Boolean value() throws Exception {
-        final Collection<Future<Boolean>> futures = new LinkedList<>();
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
-        }
-        final boolean result = new And(
-            Future::get,
-            futures
+        return new ShortCircuitInThreads(
+            this.service, this.iterable, this.shut, false
         ).value();
-        if (this.shut) {
-            this.service.shutdown();
-            try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
-                    throw new IllegalStateException(
-                        new FormattedText(
-                            "Can't terminate the service, result=%b",
-                            result
-                        ).asString()
-                    );
-                }
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(ex);
-            }
-        }
-        return result;
     }
 }
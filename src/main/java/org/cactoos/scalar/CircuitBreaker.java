@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import org.cactoos.Scalar;
+import org.cactoos.func.Circuit;
+
+/**
+ * Scalar that stops calling its origin while it keeps failing.
+ *
+ * <p>When too many of the recent calls fail, the {@link Circuit} opens
+ * and the calls fail right away with
+ * {@link org.cactoos.func.CircuitOpenException}, which you may turn
+ * into a fallback answer with {@link ScalarWithFallback}.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>Objects of this class are thread safe, if the origin is.</p>
+ *
+ * @param <T> Type of result
+ * @see org.cactoos.func.CircuitBreakerFunc
+ * @since 1.0
+ */
+public final class CircuitBreaker<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * The circuit.
+     */
+    private final Circuit circuit;
+
+    /**
+     * Ctor.
+     * @param scalar Origin
+     * @param calls Number of recent calls to calculate the rate of
+     * @param rate Rate of failures to open the circuit at
+     * @param open How long to stay open
+     */
+    public CircuitBreaker(final Scalar<? extends T> scalar,
+        final int calls, final double rate, final Duration open) {
+        this(scalar, new Circuit(calls, rate, open));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Origin
+     * @param circuit The circuit
+     */
+    public CircuitBreaker(final Scalar<? extends T> scalar,
+        final Circuit circuit) {
+        this.origin = scalar;
+        this.circuit = circuit;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.circuit.call(this.origin);
+    }
+}
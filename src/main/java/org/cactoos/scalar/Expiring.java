@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.ExpiringFunc;
+
+/**
+ * Cached version of a Scalar, which expires after some time.
+ *
+ * <p>The value is recalculated lazily, by the first caller who asks
+ * for it after it expired:</p>
+ *
+ * <pre>{@code
+ * final Scalar<Config> config = new Expiring<>(
+ *     () -> new Config(remote),
+ *     Duration.ofMinutes(1L)
+ * );
+ * }</pre>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see ExpiringFunc
+ * @see Solid
+ * @since 1.0
+ */
+public final class Expiring<T> implements Scalar<T> {
+
+    /**
+     * Func.
+     */
+    private final Func<Boolean, ? extends T> func;
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param write Time to live after calculation
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration write) {
+        this(scalar, write, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param write Time to live after calculation
+     * @param access Time to live after last reading
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration write,
+        final Duration access) {
+        this(scalar, write, access, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param write Time to live after calculation
+     * @param access Time to live after last reading
+     * @param clock Monotonic clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration write,
+        final Duration access, final Scalar<Long> clock) {
+        this.func = new ExpiringFunc<>(
+            input -> scalar.value(), write, access, clock
+        );
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.func.apply(true);
+    }
+}
@@ -4,9 +4,9 @@
  */
 package org.cactoos.scalar;
 
+import java.util.NoSuchElementException;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
 
 /**
  * Find the highest item.
@@ -24,6 +24,9 @@ import org.cactoos.iterable.Mapped;
  * // -&gt; highestChar == 'U'
  * </pre>
  *
+ * <p>Items, given as an array, are compared in one pass over it, without
+ * wrapping every item into a {@link Scalar}.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -45,11 +48,21 @@ public final class HighestOf<T extends Comparable<? super T>> extends ScalarEnve
      */
     @SafeVarargs
     public HighestOf(final T... items) {
-        this(
-            new Mapped<>(
-                item -> () -> item,
-                items
-            )
+        super(
+            () -> {
+                if (items.length == 0) {
+                    throw new NoSuchElementException(
+                        "Can't find first element in an empty iterable"
+                    );
+                }
+                T max = items[0];
+                for (int idx = 1; idx < items.length; ++idx) {
+                    if (items[idx].compareTo(max) >= 0) {
+                        max = items[idx];
+                    }
+                }
+                return max;
+            }
         );
     }
 
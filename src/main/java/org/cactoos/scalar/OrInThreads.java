@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Logical disjunction, in multiple threads.
+ *
+ * <p>The usage is same as for {@link Or}</p>
+ *
+ * <p>As soon as one of the scalars is TRUE or throws, all others still
+ * running are cancelled and interrupted, and the result is returned
+ * without waiting for them.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Unchecked
+ * @see IoChecked
+ * @since 1.0
+ */
+public final class OrInThreads implements Scalar<Boolean> {
+
+    /**
+     * The service.
+     */
+    private final Scalar<? extends ExecutorService> service;
+
+    /**
+     * The iterator.
+     */
+    private final Iterable<? extends Scalar<Boolean>> iterable;
+
+    /**
+     * Shut down the service when it's done.
+     */
+    private final boolean shut;
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(final Func<? super X, Boolean> func, final X... src) {
+        this(func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src) {
+        this(
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final Scalar<Boolean>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public OrInThreads(final Iterable<? extends Scalar<Boolean>> src) {
+        this(() -> Executors.newCachedThreadPool(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Factory of the service, which is made for every
+     *  calculation and shut down after it, for example
+     *  {@link org.cactoos.experimental.VirtualThreads}, or
+     *  {@link org.cactoos.experimental.SharedExecutor} to reuse the threads
+     * @param src The iterable
+     */
+    public OrInThreads(final Scalar<? extends ExecutorService> svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(svc, src, true);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final X... src
+    ) {
+        this(svc, func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src
+    ) {
+        this(
+            svc,
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final ExecutorService svc,
+        final Scalar<Boolean>... src) {
+        this(svc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    public OrInThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(() -> svc, src, false);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     * @param sht Shut it down
+     */
+    private OrInThreads(final Scalar<? extends ExecutorService> svc,
+        final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
+        this.service = svc;
+        this.iterable = src;
+        this.shut = sht;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        return new ShortCircuitInThreads(
+            this.service, this.iterable, this.shut, true
+        ).value();
+    }
+}
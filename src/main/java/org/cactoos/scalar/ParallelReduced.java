@@ -0,0 +1,188 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Reduces items via an associative BiFunc, in many threads of a
+ * {@link ForkJoinPool}.
+ *
+ * <pre>{@code
+ * final long sum = new ParallelReduced<>(
+ *     0L, (first, second) -> first + second, numbers
+ * ).value();
+ * }</pre>
+ *
+ * <p>The items are split with their {@link java.util.Spliterator} into
+ * parts no bigger than the threshold, every part is reduced starting
+ * from the identity and the results of the parts are combined with the
+ * same function, in the order of the items. So the result is the same
+ * as of {@link Folded}, if the function is associative and the
+ * identity doesn't change any value:</p>
+ *
+ * <pre>{@code
+ * f(identity, x) == x
+ * f(f(x, y), z) == f(x, f(y, z))
+ * }</pre>
+ *
+ * <p>Arrays and lists with random access, like
+ * {@link java.util.ArrayList}, are split evenly. Other iterables are
+ * split into batches, as they are iterated. When a collection has no
+ * more items than the threshold, they are reduced in the current thread,
+ * without the pool. An empty iterable is reduced to the identity.</p>
+ *
+ * <p>The function may be called in many threads at the same time, so it
+ * must be thread safe. The first exception it throws is thrown by
+ * {@link #value()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of items and the result
+ * @see Reduced
+ * @see Folded
+ * @since 1.0
+ */
+public final class ParallelReduced<T> implements Scalar<T> {
+
+    /**
+     * The default size of a part, reduced in one thread.
+     */
+    private static final int THRESHOLD = 1024;
+
+    /**
+     * The identity.
+     */
+    private final T identity;
+
+    /**
+     * Associative function.
+     */
+    private final BiFunc<T, ? super T, T> func;
+
+    /**
+     * The biggest part, which is reduced without splitting.
+     */
+    private final int threshold;
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The items.
+     */
+    private final Iterable<? extends T> items;
+
+    /**
+     * Ctor.
+     * @param identity The identity
+     * @param fnc Associative function
+     * @param items The items
+     */
+    @SafeVarargs
+    public ParallelReduced(final T identity, final BiFunc<T, ? super T, T> fnc,
+        final T... items) {
+        this(identity, fnc, Arrays.asList(items));
+    }
+
+    /**
+     * Ctor.
+     * @param identity The identity
+     * @param fnc Associative function
+     * @param items The items
+     */
+    public ParallelReduced(final T identity, final BiFunc<T, ? super T, T> fnc,
+        final Iterable<? extends T> items) {
+        this(identity, fnc, ParallelReduced.THRESHOLD, items);
+    }
+
+    /**
+     * Ctor.
+     * @param identity The identity
+     * @param fnc Associative function
+     * @param threshold The biggest part, which is reduced without splitting
+     * @param items The items
+     */
+    public ParallelReduced(final T identity, final BiFunc<T, ? super T, T> fnc,
+        final int threshold, final Iterable<? extends T> items) {
+        this(identity, fnc, threshold, ForkJoinPool.commonPool(), items);
+    }
+
+    /**
+     * Ctor.
+     * @param identity The identity
+     * @param fnc Associative function
+     * @param threshold The biggest part, which is reduced without splitting
+     * @param pool The pool
+     * @param items The items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ParallelReduced(final T identity, final BiFunc<T, ? super T, T> fnc,
+        final int threshold, final ForkJoinPool pool,
+        final Iterable<? extends T> items) {
+        this.identity = identity;
+        this.func = fnc;
+        this.threshold = threshold;
+        this.pool = pool;
+        this.items = items;
+    }
+
+    @Override
+    public T value() throws Exception {
+        if (this.threshold < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The threshold must be positive: %d", this.threshold
+                    )
+                ).asString()
+            );
+        }
+        final Spliterator<? extends T> split = this.items.spliterator();
+        final ReducingTask<T> task = new ReducingTask<>(
+            this.identity, this.func, this.threshold, split
+        );
+        final T result;
+        try {
+            if (split.estimateSize() <= this.threshold) {
+                result = task.compute();
+            } else {
+                result = this.pool.invoke(task);
+            }
+        } catch (final CompletionException ex) {
+            throw ParallelReduced.cause(ex);
+        }
+        return result;
+    }
+
+    /**
+     * The exception thrown by the function.
+     * @param error The wrapped exception
+     * @return The exception
+     */
+    private static Exception cause(final CompletionException error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        final Exception exception;
+        if (cause instanceof Exception) {
+            exception = (Exception) cause;
+        } else {
+            exception = error;
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import org.cactoos.BiFunc;
+
+/**
+ * Task of a {@link java.util.concurrent.ForkJoinPool}, which reduces
+ * a part of the items for {@link ParallelReduced}.
+ *
+ * <p>While the part is bigger than the threshold, it is split in two:
+ * the first half is forked, the second one is reduced in the current
+ * thread and the results are combined in the order of the items.
+ * Exceptions of the function are wrapped into
+ * {@link CompletionException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class ReducingTask<T> extends RecursiveTask<T> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -4_120_583_219_007_456_172L;
+
+    /**
+     * The identity.
+     */
+    private final T identity;
+
+    /**
+     * Associative function.
+     */
+    private final transient BiFunc<T, ? super T, T> func;
+
+    /**
+     * The biggest part, which is reduced without splitting.
+     */
+    private final long threshold;
+
+    /**
+     * The items.
+     */
+    private final transient Spliterator<? extends T> items;
+
+    /**
+     * Ctor.
+     * @param identity The identity
+     * @param fnc Associative function
+     * @param threshold The biggest part, which is reduced without splitting
+     * @param items The items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ReducingTask(final T identity, final BiFunc<T, ? super T, T> fnc,
+        final long threshold, final Spliterator<? extends T> items) {
+        super();
+        this.identity = identity;
+        this.func = fnc;
+        this.threshold = threshold;
+        this.items = items;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    protected T compute() {
+        Spliterator<? extends T> first = null;
+        if (this.items.estimateSize() > this.threshold) {
+            first = this.items.trySplit();
+        }
+        final T result;
+        try {
+            if (first == null) {
+                result = this.sequential();
+            } else {
+                final ForkJoinTask<T> fork = new ReducingTask<>(
+                    this.identity, this.func, this.threshold, first
+                ).fork();
+                final T second = new ReducingTask<>(
+                    this.identity, this.func, this.threshold, this.items
+                ).compute();
+                result = this.func.apply(fork.join(), second);
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw ReducingTask.wrapped(ex);
+        }
+        return result;
+    }
+
+    /**
+     * Reduce all items in the current thread.
+     * @return The result
+     * @throws Exception If fails
+     */
+    private T sequential() throws Exception {
+        final Iterator<? extends T> iter = Spliterators.iterator(this.items);
+        T acc = this.identity;
+        while (iter.hasNext()) {
+            acc = this.func.apply(acc, iter.next());
+        }
+        return acc;
+    }
+
+    /**
+     * Wrap the exception, unless it's already wrapped.
+     * @param error The exception
+     * @return Wrapped exception
+     */
+    private static CompletionException wrapped(final Exception error) {
+        final CompletionException wrapped;
+        if (error instanceof CompletionException) {
+            wrapped = (CompletionException) error;
+        } else {
+            wrapped = new CompletionException(error);
+        }
+        return wrapped;
+    }
+}
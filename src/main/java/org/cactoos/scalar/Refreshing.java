@@ -0,0 +1,254 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Cached version of a Scalar, which is refreshed ahead in the background.
+ *
+ * <p>The first call calculates the value and blocks, the same way
+ * {@link Solid} does. When the value gets older than the given period,
+ * the next caller submits a single refresh task to the executor and
+ * still gets the old value, without waiting. When the refresh is done,
+ * the new value replaces the old one atomically. If the refresh fails,
+ * the old value stays and the next refresh is attempted only when one
+ * more period passes. When the value gets older than the given
+ * staleness and the last refresh failed, the failure is thrown to the
+ * callers, until a refresh succeeds:</p>
+ *
+ * <pre>{@code
+ * final Scalar<Token> token = new Refreshing<>(
+ *     () -> auth.token(),
+ *     Duration.ofMinutes(5L),
+ *     Duration.ofHours(1L),
+ *     Executors.newSingleThreadExecutor()
+ * );
+ * }</pre>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see Solid
+ * @see Expiring
+ * @since 1.0
+ */
+public final class Refreshing<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Age of the value, in nanoseconds, after which it is refreshed.
+     */
+    private final long period;
+
+    /**
+     * Age of the value, in nanoseconds, after which the failure of the
+     * last refresh is thrown.
+     */
+    private final long stale;
+
+    /**
+     * Executor of refresh tasks.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Monotonic clock, in nanoseconds.
+     */
+    private final Scalar<Long> clock;
+
+    /**
+     * The value together with the time it was calculated.
+     */
+    private final AtomicReference<Map.Entry<Long, T>> cache;
+
+    /**
+     * Time of the last refresh attempt, in nanoseconds.
+     */
+    private final AtomicLong attempted;
+
+    /**
+     * Failure of the last refresh, or NULL if it succeeded.
+     */
+    private final AtomicReference<Exception> failure;
+
+    /**
+     * Whether the refresh task is submitted and not yet finished.
+     */
+    private final AtomicBoolean busy;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param period Age of the value, after which it is refreshed
+     * @param exec Executor of refresh tasks
+     */
+    public Refreshing(final Scalar<? extends T> scalar, final Duration period,
+        final ExecutorService exec) {
+        this(scalar, period, exec, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param period Age of the value, after which it is refreshed
+     * @param exec Executor of refresh tasks
+     * @param clock Monotonic clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Scalar<? extends T> scalar, final Duration period,
+        final ExecutorService exec, final Scalar<Long> clock) {
+        this(scalar, period, Duration.ofNanos(Long.MAX_VALUE), exec, clock);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param period Age of the value, after which it is refreshed
+     * @param stale Age of the value, after which the failure of the last
+     *  refresh is thrown
+     * @param exec Executor of refresh tasks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Scalar<? extends T> scalar, final Duration period,
+        final Duration stale, final ExecutorService exec) {
+        this(scalar, period, stale, exec, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param period Age of the value, after which it is refreshed
+     * @param stale Age of the value, after which the failure of the last
+     *  refresh is thrown
+     * @param exec Executor of refresh tasks
+     * @param clock Monotonic clock, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Scalar<? extends T> scalar, final Duration period,
+        final Duration stale, final ExecutorService exec,
+        final Scalar<Long> clock) {
+        this.origin = scalar;
+        this.period = Refreshing.nanos(period);
+        this.stale = Refreshing.nanos(stale);
+        this.executor = exec;
+        this.clock = clock;
+        this.cache = new AtomicReference<>();
+        this.attempted = new AtomicLong();
+        this.failure = new AtomicReference<>();
+        this.busy = new AtomicBoolean();
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws Exception {
+        Map.Entry<Long, T> entry = this.cache.get();
+        if (entry == null) {
+            synchronized (this.lock) {
+                entry = this.cache.get();
+                if (entry == null) {
+                    entry = this.calculated();
+                    this.attempted.set(entry.getKey());
+                    this.cache.set(entry);
+                }
+            }
+        } else {
+            final long now = this.clock.value();
+            if (now - this.attempted.get() >= this.period
+                && this.busy.compareAndSet(false, true)) {
+                this.refresh();
+            }
+            final Exception last = this.failure.get();
+            if (last != null && now - entry.getKey() >= this.stale) {
+                throw last;
+            }
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * Submit the refresh task.
+     *
+     * <p>A failed refresh is remembered and its time is taken as the
+     * time of the last attempt, so the next one waits for one more
+     * period, instead of being submitted by every caller.</p>
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void refresh() {
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        final Map.Entry<Long, T> entry = this.calculated();
+                        this.attempted.set(entry.getKey());
+                        this.cache.set(entry);
+                        this.failure.set(null);
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception ex) {
+                        if (ex instanceof InterruptedException) {
+                            Thread.currentThread().interrupt();
+                        }
+                        this.failure.set(ex);
+                        this.attempted.set(
+                            new Unchecked<>(this.clock).value()
+                        );
+                    } finally {
+                        this.busy.set(false);
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            this.busy.set(false);
+        }
+    }
+
+    /**
+     * Calculate the value and stamp it with the current time.
+     * @return The value with its time
+     * @throws Exception If fails
+     */
+    private Map.Entry<Long, T> calculated() throws Exception {
+        final T value = this.origin.value();
+        return new MapEntry<>(this.clock.value(), value);
+    }
+
+    /**
+     * Duration in nanoseconds, saturated to {@link Long#MAX_VALUE}.
+     * @param duration The duration
+     * @return Nanoseconds
+     */
+    private static long nanos(final Duration duration) {
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (final ArithmeticException ex) {
+            nanos = Long.MAX_VALUE;
+        }
+        return nanos;
+    }
+}
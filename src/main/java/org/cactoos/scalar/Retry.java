@@ -7,6 +7,8 @@ package org.cactoos.scalar;
 import java.time.Duration;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.Backoff;
+import org.cactoos.iterable.IterableOf;
 
 /**
  * Func that will try a few times before throwing an exception.
@@ -23,6 +25,10 @@ import org.cactoos.Scalar;
  * ).value() // will try to run 5 times before throwing an exception
  * }</pre>
  *
+ * <p>The delay between attempts is decided by a {@link Backoff}, and
+ * only exceptions of the given types are retried, see
+ * {@link org.cactoos.func.Retry}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * <p>This class implements {@link Scalar}, which throws a checked
@@ -47,9 +53,14 @@ public final class Retry<T> implements Scalar<T> {
     private final Func<Integer, Boolean> func;
 
     /**
-     * Wait between executions.
+     * Delay between executions.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Exceptions to retry.
      */
-    private final Duration wait;
+    private final Iterable<Class<? extends Throwable>> exceptions;
 
     /**
      * Ctor.
@@ -88,6 +99,18 @@ public final class Retry<T> implements Scalar<T> {
         this(scalar, attempt -> attempt >= attempts, wait);
     }
 
+    /**
+     * Ctor.
+     * @param scalar Scalar original
+     * @param attempts Maximum number of attempts
+     * @param delays Delays between attempts
+     * @since 1.0
+     */
+    public Retry(final Scalar<? extends T> scalar, final int attempts,
+        final Backoff delays) {
+        this(scalar, attempt -> attempt >= attempts, delays);
+    }
+
     /**
      * Ctor.
      * @param scalar Func original
@@ -106,9 +129,37 @@ public final class Retry<T> implements Scalar<T> {
      */
     public Retry(final Scalar<? extends T> scalar,
         final Func<Integer, Boolean> exit, final Duration wait) {
+        this(scalar, exit, new Backoff.Fixed(wait));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Func original
+     * @param exit Exit condition, returns TRUE if there is no reason to try
+     * @param delays Delays between attempts
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public Retry(final Scalar<? extends T> scalar,
+        final Func<Integer, Boolean> exit, final Backoff delays) {
+        this(scalar, exit, delays, new IterableOf<>(Exception.class));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Func original
+     * @param exit Exit condition, returns TRUE if there is no reason to try
+     * @param delays Delays between attempts
+     * @param exps Types of exceptions to retry
+     * @since 1.0
+     */
+    public Retry(final Scalar<? extends T> scalar,
+        final Func<Integer, Boolean> exit, final Backoff delays,
+        final Iterable<Class<? extends Throwable>> exps) {
         this.origin = scalar;
         this.func = exit;
-        this.wait = wait;
+        this.backoff = delays;
+        this.exceptions = exps;
     }
 
     @Override
@@ -116,7 +167,8 @@ public final class Retry<T> implements Scalar<T> {
         return new org.cactoos.func.Retry<>(
             (Func<Boolean, T>) input -> this.origin.value(),
             this.func,
-            this.wait
+            this.backoff,
+            this.exceptions
         ).apply(true);
     }
 }
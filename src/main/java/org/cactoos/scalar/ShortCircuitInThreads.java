@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Logical operation in multiple threads, which stops as soon as
+ * one of the scalars gives the deciding value or fails.
+ *
+ * <p>Results are taken in the order the scalars complete. When one of
+ * them is equal to the deciding value, or throws, all other scalars
+ * still running are cancelled and interrupted, and the result is
+ * returned (or the exception is thrown) right away, without waiting
+ * for them to stop. When all scalars are consumed, a service owned by
+ * this object is shut down and awaited.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see AndInThreads
+ * @see OrInThreads
+ * @since 1.0
+ */
+final class ShortCircuitInThreads implements Scalar<Boolean> {
+
+    /**
+     * Factory of the service.
+     */
+    private final Scalar<? extends ExecutorService> service;
+
+    /**
+     * The scalars.
+     */
+    private final Iterable<? extends Scalar<Boolean>> iterable;
+
+    /**
+     * Shut down the service when it's done.
+     */
+    private final boolean shut;
+
+    /**
+     * The deciding value.
+     */
+    private final boolean decisive;
+
+    /**
+     * Ctor.
+     * @param svc Factory of the service
+     * @param src The scalars
+     * @param sht Shut it down
+     * @param stop The deciding value
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ShortCircuitInThreads(final Scalar<? extends ExecutorService> svc,
+        final Iterable<? extends Scalar<Boolean>> src, final boolean sht,
+        final boolean stop) {
+        this.service = svc;
+        this.iterable = src;
+        this.shut = sht;
+        this.decisive = stop;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        final ExecutorService executor = this.service.value();
+        final CompletionService<Boolean> done =
+            new ExecutorCompletionService<>(executor);
+        final Collection<Future<Boolean>> futures = new LinkedList<>();
+        boolean result = !this.decisive;
+        boolean consumed = false;
+        try {
+            for (final Scalar<Boolean> item : this.iterable) {
+                futures.add(done.submit(item::value));
+            }
+            for (int idx = 0; idx < futures.size(); ++idx) {
+                if (done.take().get() == this.decisive) {
+                    result = this.decisive;
+                    break;
+                }
+            }
+            consumed = result != this.decisive;
+        } finally {
+            for (final Future<Boolean> future : futures) {
+                future.cancel(true);
+            }
+            if (this.shut) {
+                if (consumed) {
+                    executor.shutdown();
+                } else {
+                    executor.shutdownNow();
+                }
+            }
+        }
+        if (this.shut && consumed) {
+            try {
+                if (!executor.awaitTermination(1L, TimeUnit.MINUTES)) {
+                    throw new IllegalStateException(
+                        new FormattedText(
+                            "Can't terminate the service, result=%b",
+                            result
+                        ).asString()
+                    );
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.lang.ref.SoftReference;
+import org.cactoos.Scalar;
+
+/**
+ * Cached version of a Scalar, which the garbage collector may reclaim.
+ *
+ * <p>The value is held through a {@link SoftReference}, so under heap
+ * pressure it is cleared instead of causing {@link OutOfMemoryError},
+ * and calculated again on the next call. It suits big values, which
+ * are cheap enough to recalculate, like the content of a file:</p>
+ *
+ * <pre>{@code
+ * final Scalar<byte[]> content = new Soft<>(
+ *     () -> new BytesOf(new File("big.bin")).asBytes()
+ * );
+ * }</pre>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see Solid
+ * @since 1.0
+ */
+public final class Soft<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Cache.
+     */
+    private volatile SoftReference<T> cache;
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     */
+    public Soft(final Scalar<? extends T> origin) {
+        this.origin = origin;
+        this.lock = new Object();
+        this.cache = new SoftReference<>(null);
+    }
+
+    @Override
+    public T value() throws Exception {
+        T value = this.cache.get();
+        if (value == null) {
+            synchronized (this.lock) {
+                value = this.cache.get();
+                if (value == null) {
+                    value = this.origin.value();
+                    this.cache = new SoftReference<>(value);
+                }
+            }
+        }
+        return value;
+    }
+}
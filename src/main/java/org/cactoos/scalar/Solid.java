@@ -5,6 +5,7 @@
 package org.cactoos.scalar;
 
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 
 /**
  * Cached and synchronized version of a Scalar.
@@ -33,13 +34,29 @@ public final class Solid<T> implements Scalar<T> {
      */
     private final Object lock;
 
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
     /**
      * Ctor.
      * @param origin The Scalar to cache and sync
      */
     public Solid(final Scalar<? extends T> origin) {
+        this(origin, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache and sync
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public Solid(final Scalar<? extends T> origin, final CacheStats stats) {
         this.origin = origin;
         this.lock = new Object();
+        this.stats = stats;
     }
 
     @Override
@@ -47,9 +64,16 @@ public final class Solid<T> implements Scalar<T> {
         if (this.cache == null) {
             synchronized (this.lock) {
                 if (this.cache == null) {
-                    this.cache = this.origin.value();
+                    this.cache = this.stats.miss(this.origin);
+                    if (this.cache != null) {
+                        this.stats.attach(this, solid -> 1);
+                    }
+                } else {
+                    this.stats.hit();
                 }
             }
+        } else {
+            this.stats.hit();
         }
         return this.cache;
     }
@@ -4,8 +4,8 @@
  */
 package org.cactoos.scalar;
 
-import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 import org.cactoos.func.StickyFunc;
 
 /**
@@ -41,22 +41,53 @@ import org.cactoos.func.StickyFunc;
 public final class Sticky<T> implements Scalar<T> {
 
     /**
-     * Func.
+     * Origin.
      */
-    private final Func<Boolean, ? extends T> func;
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
+    /**
+     * The value.
+     */
+    private T cache;
+
+    /**
+     * Whether the value is calculated.
+     */
+    private boolean done;
 
     /**
      * Ctor.
      * @param scalar The Scalar to cache
      */
     public Sticky(final Scalar<? extends T> scalar) {
-        this.func = new StickyFunc<>(
-            input -> scalar.value()
-        );
+        this(scalar, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public Sticky(final Scalar<? extends T> scalar, final CacheStats stats) {
+        this.origin = scalar;
+        this.stats = stats;
     }
 
     @Override
     public T value() throws Exception {
-        return this.func.apply(true);
+        if (this.done) {
+            this.stats.hit();
+        } else {
+            this.cache = this.stats.miss(this.origin);
+            this.done = true;
+            this.stats.attach(this, sticky -> 1);
+        }
+        return this.cache;
     }
 }
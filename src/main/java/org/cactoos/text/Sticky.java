@@ -5,6 +5,7 @@
 package org.cactoos.text;
 
 import org.cactoos.Text;
+import org.cactoos.func.CacheStats;
 
 /**
  * Cached version of a Text.
@@ -23,9 +24,19 @@ public final class Sticky extends TextEnvelope {
      * @param txt Text to cache
      */
     public Sticky(final Text txt) {
+        this(txt, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param txt Text to cache
+     * @param stats Statistics to collect
+     * @since 1.0
+     */
+    public Sticky(final Text txt, final CacheStats stats) {
         super(
             new TextOfScalar(
-                new org.cactoos.scalar.Sticky<>(txt::asString)
+                new org.cactoos.scalar.Sticky<>(txt::asString, stats)
             )
         );
     }
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FailFast}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FailFastTest {
+
+    @Test
+    void containsResults() {
+        new Assertion<>(
+            "Must contain results of all tasks",
+            new Threads<>(
+                new FailFast<>(2),
+                () -> "txt 1",
+                () -> "txt 2"
+            ),
+            new HasValues<>("txt 1", "txt 2")
+        ).affirm();
+    }
+
+    @Test
+    void cancelsSiblingsOnFailure() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        new Assertion<>(
+            "Must rethrow the error without waiting",
+            () -> new LengthOf(
+                new Threads<>(
+                    new FailFast<>(2),
+                    () -> {
+                        started.countDown();
+                        try {
+                            TimeUnit.MINUTES.sleep(1L);
+                        } catch (final InterruptedException ex) {
+                            interrupted.countDown();
+                        }
+                        return "txt 1";
+                    },
+                    () -> {
+                        started.await(1L, TimeUnit.MINUTES);
+                        throw new IllegalStateException("Broken");
+                    }
+                )
+            ).value(),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the sibling",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+
+/**
+ * Test case for {@link InCompletionOrder}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class InCompletionOrderTest {
+
+    @Test
+    void givesResultsWhileOtherTasksRun() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Iterator<String> results = new Threads<>(
+            new InCompletionOrder<>(2),
+            () -> {
+                latch.await(1L, TimeUnit.MINUTES);
+                return "slow";
+            },
+            () -> "fast"
+        ).iterator();
+        final String first = results.next();
+        latch.countDown();
+        new Assertion<>(
+            "Must give the fast result first",
+            new ListOf<>(first, results.next()),
+            new IsEqual<>(new ListOf<>("fast", "slow"))
+        ).affirm();
+    }
+
+    @Test
+    void containsAllResults() {
+        new Assertion<>(
+            "Must contain results of all tasks",
+            new Threads<>(
+                new InCompletionOrder<>(new VirtualThreads()),
+                () -> "txt 1",
+                () -> "txt 2",
+                () -> "txt 3"
+            ),
+            new HasValues<>("txt 1", "txt 2", "txt 3")
+        ).affirm();
+    }
+}
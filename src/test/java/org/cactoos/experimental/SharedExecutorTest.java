@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Repeated;
+import org.cactoos.scalar.And;
+import org.cactoos.scalar.AndInThreads;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SharedExecutor}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class SharedExecutorTest {
+
+    @Test
+    void reusesThreadsAcrossIterations() throws Exception {
+        final Set<String> names = ConcurrentHashMap.newKeySet();
+        try (SharedExecutor pool = new SharedExecutor(2, "shared")) {
+            for (int idx = 0; idx < 50; ++idx) {
+                new LengthOf(
+                    new Threads<>(
+                        pool,
+                        new Mapped<>(
+                            task -> () -> names.add(
+                                Thread.currentThread().getName()
+                            ),
+                            new Repeated<>(4, 0)
+                        )
+                    )
+                ).value();
+            }
+        }
+        new Assertion<>(
+            "Must run all iterations in the same two threads",
+            new And(
+                name -> name.startsWith("shared-"),
+                names
+            ).value() && names.size() <= 2,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void startsNewThreadsForEveryIterationWithoutSharing() throws Exception {
+        final Set<String> names = ConcurrentHashMap.newKeySet();
+        for (int idx = 0; idx < 50; ++idx) {
+            new LengthOf(
+                new Threads<>(
+                    2,
+                    new Mapped<>(
+                        task -> () -> names.add(
+                            Thread.currentThread().getName()
+                        ),
+                        new Repeated<>(4, 0)
+                    )
+                )
+            ).value();
+        }
+        new Assertion<>(
+            "Must start new threads for every iteration",
+            names.size() >= 50,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void survivesShutdownOfCalculations() throws Exception {
+        try (SharedExecutor pool = new SharedExecutor(1, "calc")) {
+            new AndInThreads(
+                pool, new Repeated<Scalar<Boolean>>(3, () -> true)
+            ).value();
+            new Assertion<>(
+                "Must run the next calculation in the same pool",
+                new AndInThreads(
+                    pool, new Repeated<Scalar<Boolean>>(3, () -> true)
+                ).value(),
+                new IsEqual<>(true)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsPoolWhileReferenced() throws Exception {
+        final SharedExecutor pool = new SharedExecutor(1, "kept");
+        final ExecutorService view = pool.value();
+        pool.close();
+        new Assertion<>(
+            "Must run tasks after close, while the view is not shut down",
+            view.submit(() -> 1).get(),
+            new IsEqual<>(1)
+        ).affirm();
+        view.shutdown();
+        new Assertion<>(
+            "Must not give the pool away after close",
+            pool::value,
+            new Throws<>(
+                "The shared executor is closed", IllegalStateException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void waitsForTasksOfViewToTerminate() throws Exception {
+        try (SharedExecutor pool = new SharedExecutor(1, "view")) {
+            final ExecutorService view = pool.value();
+            final CountDownLatch release = new CountDownLatch(1);
+            view.submit(() -> release.await(1L, TimeUnit.MINUTES));
+            view.shutdown();
+            new Assertion<>(
+                "Must not be terminated while its task is running",
+                view.awaitTermination(100L, TimeUnit.MILLISECONDS),
+                new IsEqual<>(false)
+            ).affirm();
+            release.countDown();
+            new Assertion<>(
+                "Must be terminated when its task is finished",
+                view.awaitTermination(1L, TimeUnit.MINUTES),
+                new IsEqual<>(true)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void doesNotStartThreadsIfNeverUsed() {
+        new SharedExecutor(1, "unused").close();
+        new Assertion<>(
+            "Must not start threads of the pool",
+            Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("unused-"))
+                .count(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+}
@@ -289,6 +289,25 @@ final class ThreadsTest {
         ).affirm();
     }
 
+    /**
+     * Execute the tasks in a new {@link ExecutorService}, made by a factory,
+     *  for every iteration.
+     */
+    @Test
+    void containsResultsOfEveryIteration() throws Exception {
+        final Threads<String> threads = new Threads<>(
+            new VirtualThreads(),
+            () -> "txt 1",
+            () -> "txt 2"
+        );
+        new LengthOf(threads).value();
+        new Assertion<>(
+            "Must contain results from callables of the second iteration",
+            threads,
+            new HasValues<>("txt 1", "txt 2")
+        ).affirm();
+    }
+
     /**
      * Sleep.
      */
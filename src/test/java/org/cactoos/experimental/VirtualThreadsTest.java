@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Repeated;
+import org.cactoos.scalar.AndInThreads;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link VirtualThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class VirtualThreadsTest {
+
+    @Test
+    void runsAllBlockingTasksAtOnce() throws Exception {
+        final int tasks = 1000;
+        final CyclicBarrier barrier = new CyclicBarrier(tasks);
+        new Assertion<>(
+            "Must run a thousand blocking tasks at the same time",
+            new AndInThreads(
+                new VirtualThreads(),
+                new Mapped<>(
+                    idx -> () -> barrier.await(1L, TimeUnit.MINUTES) >= 0,
+                    new Repeated<>(tasks, 0)
+                )
+            ).value(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
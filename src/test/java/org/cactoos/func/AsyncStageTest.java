@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link AsyncStage}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class AsyncStageTest {
+
+    @Test
+    void runsInBackground() throws Exception {
+        new Assertion<>(
+            "Must run in another thread",
+            new AsyncStage<String, String>(
+                input -> Thread.currentThread().getName(),
+                Executors.newSingleThreadExecutor(
+                    runnable -> new Thread(runnable, "stage")
+                )
+            ).apply("").get(),
+            new IsEqual<>("stage")
+        ).affirm();
+    }
+
+    @Test
+    void completesExceptionally() {
+        new Assertion<>(
+            "Must complete with exception of the function",
+            () -> new AsyncStage<Integer, Integer>(
+                input -> {
+                    throw new IOException("Broken");
+                }
+            ).apply(1).get(),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void keepsCauseOfFailure() throws Exception {
+        new Assertion<>(
+            "Must keep the original exception",
+            new AsyncStage<Integer, Integer>(
+                input -> {
+                    throw new IOException("Lost");
+                }
+            ).apply(1).handle((result, error) -> error).get(),
+            new IsInstanceOf(IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Random;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Backoff}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BackoffTest {
+
+    @Test
+    void doublesDelayExponentially() {
+        new Assertion<>(
+            "Must double the delay",
+            new Backoff.Exponential(
+                Duration.ofMillis(100L), Duration.ofSeconds(10L)
+            ).delay(3, Duration.ZERO),
+            new IsEqual<>(Duration.ofMillis(800L))
+        ).affirm();
+    }
+
+    @Test
+    void capsExponentialDelay() {
+        new Assertion<>(
+            "Must not exceed the cap",
+            new Backoff.Exponential(
+                Duration.ofMillis(100L), Duration.ofSeconds(10L)
+            ).delay(Integer.MAX_VALUE, Duration.ZERO),
+            new IsEqual<>(Duration.ofSeconds(10L))
+        ).affirm();
+    }
+
+    @Test
+    void keepsDecorrelatedDelayInBounds() {
+        final Backoff backoff = new Backoff.Decorrelated(
+            Duration.ofMillis(10L), Duration.ofMillis(500L), new Random(42L)
+        );
+        Duration delay = Duration.ZERO;
+        boolean inside = true;
+        for (int attempt = 0; attempt < 100; ++attempt) {
+            delay = backoff.delay(attempt, delay);
+            inside &= delay.compareTo(Duration.ofMillis(10L)) >= 0
+                && delay.compareTo(Duration.ofMillis(500L)) <= 0;
+        }
+        new Assertion<>(
+            "Must stay between the base and the cap",
+            inside,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void returnsBaseForFirstDecorrelatedDelayWithoutRandomness() {
+        new Assertion<>(
+            "Must start from the base",
+            new Backoff.Decorrelated(
+                Duration.ofMillis(10L), Duration.ofMillis(500L),
+                new Random() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public double nextDouble() {
+                        return 0.0d;
+                    }
+                }
+            ).delay(0, Duration.ZERO),
+            new IsEqual<>(Duration.ofMillis(10L))
+        ).affirm();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link BatchedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BatchedFuncTest {
+
+    @Test
+    void completesCallsFromManyThreads() {
+        final AtomicInteger batches = new AtomicInteger();
+        final BatchedFunc<Integer, Integer> func = new BatchedFunc<>(
+            keys -> {
+                batches.incrementAndGet();
+                return keys.stream().collect(
+                    Collectors.toMap(key -> key, key -> key + 1)
+                );
+            },
+            10,
+            Duration.ofMillis(20L)
+        );
+        new Assertion<>(
+            "Must give every thread its value",
+            counter -> {
+                final int key = counter.incrementAndGet();
+                return func.apply(key) == key + 1;
+            },
+            new RunsInThreads<>(new AtomicInteger(), 10)
+        ).affirm();
+        new Assertion<>(
+            "Must call the batch less often than the function",
+            batches.get() < 10,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rethrowsErrorOfBatch() {
+        new Assertion<>(
+            "Must throw the error of the batch",
+            () -> new BatchedFunc<Integer, Integer>(
+                keys -> {
+                    throw new IOException("Bulk failed");
+                },
+                1,
+                Duration.ofMinutes(1L)
+            ).apply(1),
+            new Throws<>("Bulk failed", IOException.class)
+        ).affirm();
+    }
+}
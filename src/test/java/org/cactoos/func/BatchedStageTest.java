@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link BatchedStage}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BatchedStageTest {
+
+    @Test
+    void dispatchesFullBatchAtOnce() throws Exception {
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final BatchedStage<Integer, String> stage = new BatchedStage<>(
+            keys -> {
+                batches.add(keys);
+                return keys.stream().collect(
+                    Collectors.toMap(key -> key, key -> key.toString())
+                );
+            },
+            3,
+            Duration.ofMinutes(1L)
+        );
+        final CompletableFuture<String> first = stage.apply(1);
+        final CompletableFuture<String> second = stage.apply(2);
+        final CompletableFuture<String> third = stage.apply(1);
+        final CompletableFuture<String> fourth = stage.apply(3);
+        new Assertion<>(
+            "Must complete every call",
+            new ListOf<>(
+                first.get(), second.get(), third.get(), fourth.get()
+            ),
+            new IsEqual<>(new ListOf<>("1", "2", "1", "3"))
+        ).affirm();
+        new Assertion<>(
+            "Must call the batch once with distinct keys",
+            batches,
+            new IsEqual<>(new ListOf<List<Integer>>(new ListOf<>(1, 2, 3)))
+        ).affirm();
+    }
+
+    @Test
+    void dispatchesAtEndOfWindow() throws Exception {
+        new Assertion<>(
+            "Must dispatch an incomplete batch in time",
+            new BatchedStage<Integer, Integer>(
+                keys -> keys.stream().collect(
+                    Collectors.toMap(key -> key, key -> key * 2)
+                ),
+                100,
+                Duration.ofMillis(10L)
+            ).apply(21).get(),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test
+    void failsAllCallsOfFailedBatch() throws Exception {
+        new Assertion<>(
+            "Must fail with the error of the batch",
+            new BatchedStage<Integer, Integer>(
+                keys -> {
+                    throw new IOException("Bulk failed");
+                },
+                1,
+                Duration.ofMinutes(1L)
+            ).apply(1).handle((value, error) -> error).get(),
+            new IsInstanceOf(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsCallWithoutValue() throws Exception {
+        new Assertion<>(
+            "Must fail when the batch has no value for the key",
+            new BatchedStage<Integer, Integer>(
+                keys -> new HashMap<Integer, Integer>(0),
+                1,
+                Duration.ofMinutes(1L)
+            ).apply(1).handle((value, error) -> error).get(),
+            new IsInstanceOf(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsAllCallsWhenBatchReturnsNull() throws Exception {
+        final BatchedStage<Integer, Integer> stage = new BatchedStage<>(
+            keys -> null,
+            2,
+            Duration.ofMinutes(1L)
+        );
+        final CompletableFuture<Integer> first = stage.apply(1);
+        final CompletableFuture<Integer> second = stage.apply(2);
+        new Assertion<>(
+            "Must fail the first call when the batch returns no map",
+            first.handle((value, error) -> error).get(),
+            new IsInstanceOf(IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must fail the second call when the batch returns no map",
+            second.handle((value, error) -> error).get(),
+            new IsInstanceOf(IllegalStateException.class)
+        ).affirm();
+    }
+}
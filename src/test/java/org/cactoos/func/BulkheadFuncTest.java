@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link BulkheadFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BulkheadFuncTest {
+
+    @Test
+    void callsFunction() throws Exception {
+        new Assertion<>(
+            "Must call the function",
+            new BulkheadFunc<Integer, Integer>(input -> input * 2, 1)
+                .apply(21),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test
+    void limitsConcurrencyInsideAsync() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(2);
+        final AtomicInteger highest = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new Async<Integer, Integer>(
+                new BulkheadFunc<>(
+                    input -> highest.accumulateAndGet(
+                        bulkhead.inFlight(), Math::max
+                    ),
+                    bulkhead
+                ),
+                executor
+            ).apply(1).get();
+        } finally {
+            executor.shutdown();
+        }
+        new Assertion<>(
+            "Must count the call in flight",
+            highest.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
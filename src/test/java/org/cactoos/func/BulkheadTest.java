@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Bulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.JUnitTestsShouldIncludeAssert",
+    "PMD.AvoidDuplicateLiterals"})
+final class BulkheadTest {
+
+    @Test
+    void rejectsWhenFull() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Boolean> busy = executor.submit(
+                () -> bulkhead.call(
+                    () -> {
+                        started.countDown();
+                        return release.await(1L, TimeUnit.MINUTES);
+                    }
+                )
+            );
+            started.await();
+            new Assertion<>(
+                "Must reject the second call",
+                () -> bulkhead.call(() -> true),
+                new Throws<>(
+                    "All 1 permits are taken", BulkheadFullException.class
+                )
+            ).affirm();
+            new Assertion<>(
+                "Must report the call in flight",
+                bulkhead.inFlight(),
+                new IsEqual<>(1)
+            ).affirm();
+            new Assertion<>(
+                "Must count the rejection",
+                bulkhead.rejected(),
+                new IsEqual<>(1L)
+            ).affirm();
+            release.countDown();
+            busy.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitsInQueueForPermit() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofMinutes(1L));
+        final CountDownLatch started = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(
+                () -> bulkhead.call(
+                    () -> {
+                        started.countDown();
+                        Thread.sleep(50L);
+                        return true;
+                    }
+                )
+            );
+            started.await();
+            new Assertion<>(
+                "Must wait for the permit and call",
+                bulkhead.call(() -> 1),
+                new IsEqual<>(1)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasesPermitAfterFailure() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        new Assertion<>(
+            "Must pass the failure through",
+            () -> bulkhead.call(
+                () -> {
+                    throw new IllegalArgumentException("Broken");
+                }
+            ),
+            new Throws<>("Broken", IllegalArgumentException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must release the permit",
+            bulkhead.inFlight(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import org.cactoos.Func;
+import org.hamcrest.collection.IsMapContaining;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CacheStats}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CacheStatsTest {
+
+    @Test
+    void countsHitsAndMisses() throws Exception {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> input, Integer.MAX_VALUE, stats
+        );
+        func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must count hits, misses and size",
+            stats.snapshot(),
+            new AllOf<>(
+                new IsMapContaining<>(
+                    new IsEqual<>("hits"), new IsEqual<>(1L)
+                ),
+                new IsMapContaining<>(
+                    new IsEqual<>("misses"), new IsEqual<>(2L)
+                ),
+                new IsMapContaining<>(
+                    new IsEqual<>("size"), new IsEqual<>(2L)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countsEvictions() throws Exception {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> input, 1, stats
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(3);
+        new Assertion<>(
+            "Must count evictions",
+            stats.snapshot(),
+            new AllOf<>(
+                new IsMapContaining<>(
+                    new IsEqual<>("evictions"), new IsEqual<>(2L)
+                ),
+                new IsMapContaining<>(
+                    new IsEqual<>("size"), new IsEqual<>(1L)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void reportsSizeOfEmptyCache() throws Exception {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> input, 0, stats
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            func.apply(idx);
+        }
+        new Assertion<>(
+            "Must report the real size of the cache",
+            stats.snapshot(),
+            new AllOf<>(
+                new IsMapContaining<>(
+                    new IsEqual<>("evictions"), new IsEqual<>(5L)
+                ),
+                new IsMapContaining<>(
+                    new IsEqual<>("size"), new IsEqual<>(0L)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void sumsSizesOfCachesSharingStats() throws Exception {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        final Func<Integer, Integer> first = new StickyFunc<>(
+            input -> input, Integer.MAX_VALUE, stats
+        );
+        final Func<Integer, Integer> second = new SolidFunc<>(
+            input -> input, 1, stats
+        );
+        first.apply(1);
+        first.apply(2);
+        second.apply(1);
+        second.apply(2);
+        new Assertion<>(
+            "Must report the size of all caches together",
+            stats.snapshot(),
+            new IsMapContaining<>(
+                new IsEqual<>("size"), new IsEqual<>(3L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countsFailures() {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        new Assertion<>(
+            "Must rethrow failure of load",
+            () -> new SolidFunc<Integer, Integer>(
+                input -> {
+                    throw new IOException("Can't load");
+                },
+                Integer.MAX_VALUE,
+                stats
+            ).apply(1),
+            new Throws<>(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must count failures",
+            stats.snapshot(),
+            new AllOf<>(
+                new IsMapContaining<>(
+                    new IsEqual<>("failures"), new IsEqual<>(1L)
+                ),
+                new IsMapContaining<>(
+                    new IsEqual<>("loads"), new IsEqual<>(0L)
+                )
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ChainedStage}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ChainedStageTest {
+
+    @Test
+    void appliesNextFunc() throws Exception {
+        new Assertion<>(
+            "Must apply next function to the result",
+            new ChainedStage<String, String, Integer>(
+                new AsyncStage<>(input -> input.concat("!")),
+                String::length
+            ).apply("Hello").get(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void wrapsCheckedException() throws Exception {
+        new Assertion<>(
+            "Must complete with CompletionException",
+            new ChainedStage<String, String, Integer>(
+                new AsyncStage<>(input -> input),
+                input -> {
+                    throw new IOException("Failed");
+                }
+            ).apply("").handle((result, error) -> error).get(),
+            new IsInstanceOf(CompletionException.class)
+        ).affirm();
+    }
+}
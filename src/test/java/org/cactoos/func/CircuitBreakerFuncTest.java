@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CircuitBreakerFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CircuitBreakerFuncTest {
+
+    @Test
+    void stopsCallingFailingFunction() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, String> func = new FuncWithFallback<>(
+            new CircuitBreakerFunc<Integer, String>(
+                input -> {
+                    calls.incrementAndGet();
+                    throw new IOException("Down");
+                },
+                2, 1.0d, Duration.ofMinutes(1L)
+            ),
+            new Fallback.From<>(Exception.class, ex -> "fallback")
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            func.apply(idx);
+        }
+        new Assertion<>(
+            "Must call the origin only until the circuit opens",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackWhenOpen() throws Exception {
+        final Circuit circuit = new Circuit(1, 1.0d, Duration.ofMinutes(1L));
+        new FuncWithFallback<Integer, String>(
+            new CircuitBreakerFunc<>(
+                input -> {
+                    throw new IOException("Down");
+                },
+                circuit
+            ),
+            new Fallback.From<>(IOException.class, ex -> "failed")
+        ).apply(1);
+        new Assertion<>(
+            "Must fall back from an open circuit",
+            new FuncWithFallback<Integer, String>(
+                new CircuitBreakerFunc<>(input -> "origin", circuit),
+                new Fallback.From<>(
+                    CircuitOpenException.class, ex -> "cached"
+                )
+            ).apply(1),
+            new IsEqual<>("cached")
+        ).affirm();
+    }
+}
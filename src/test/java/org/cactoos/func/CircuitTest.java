@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Circuit}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.JUnitTestsShouldIncludeAssert",
+    "PMD.AvoidDuplicateLiterals"})
+final class CircuitTest {
+
+    @Test
+    void opensWhenFailuresReachThreshold() {
+        final Circuit circuit = new Circuit(4, 0.5d, Duration.ofSeconds(1L));
+        CircuitTest.calls(circuit, true, false, true, false);
+        new Assertion<>(
+            "Must be open",
+            circuit.state(),
+            new IsEqual<>(Circuit.State.OPEN)
+        ).affirm();
+    }
+
+    @Test
+    void staysClosedBelowThreshold() {
+        final Circuit circuit = new Circuit(4, 0.5d, Duration.ofSeconds(1L));
+        CircuitTest.calls(circuit, true, false, true, true, true, false);
+        new Assertion<>(
+            "Must be closed",
+            circuit.state(),
+            new IsEqual<>(Circuit.State.CLOSED)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsCallsWhenOpen() {
+        final Circuit circuit = new Circuit(1, 1.0d, Duration.ofSeconds(1L));
+        CircuitTest.calls(circuit, false);
+        new Assertion<>(
+            "Must reject the call",
+            () -> circuit.call(() -> true),
+            new Throws<>("The circuit is open", CircuitOpenException.class)
+        ).affirm();
+    }
+
+    @Test
+    void closesAfterSuccessfulProbe() throws Exception {
+        final AtomicLong time = new AtomicLong();
+        final List<String> moves = new LinkedList<>();
+        final Circuit circuit = new Circuit(
+            1, 1.0d, Duration.ofNanos(100L),
+            (from, to) -> moves.add(
+                String.join(">", from.toString(), to.toString())
+            ),
+            time::get
+        );
+        CircuitTest.calls(circuit, false);
+        time.set(100L);
+        circuit.call(() -> true);
+        new Assertion<>(
+            "Must go through all states",
+            moves,
+            new IsEqual<>(
+                new ListOf<>(
+                    "closed>open", "open>half-open", "half-open>closed"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void reopensAfterFailedProbe() {
+        final AtomicLong time = new AtomicLong();
+        final Circuit circuit = new Circuit(
+            1, 1.0d, Duration.ofNanos(100L), (from, to) -> { }, time::get
+        );
+        CircuitTest.calls(circuit, false);
+        time.set(100L);
+        CircuitTest.calls(circuit, false);
+        time.set(150L);
+        new Assertion<>(
+            "Must be open for another pause",
+            () -> circuit.call(() -> true),
+            new Throws<>("The circuit is open", CircuitOpenException.class)
+        ).affirm();
+    }
+
+    @Test
+    void keepsOutcomeOfCallWhenListenerFails() throws Exception {
+        final AtomicLong time = new AtomicLong();
+        final Circuit circuit = new Circuit(
+            1, 1.0d, Duration.ofNanos(100L),
+            (from, to) -> {
+                throw new IllegalStateException("Broken listener");
+            },
+            time::get
+        );
+        new Assertion<>(
+            "Must throw the exception of the call",
+            () -> circuit.call(
+                () -> {
+                    throw new IOException("Failed call");
+                }
+            ),
+            new Throws<>("Failed call", IOException.class)
+        ).affirm();
+        time.set(100L);
+        new Assertion<>(
+            "Must return the result of the probe",
+            circuit.call(() -> true),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must move to the next state anyway",
+            circuit.state(),
+            new IsEqual<>(Circuit.State.CLOSED)
+        ).affirm();
+    }
+
+    /**
+     * Make calls through the circuit.
+     * @param circuit The circuit
+     * @param results TRUE for the calls to succeed, FALSE to fail
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void calls(final Circuit circuit,
+        final boolean... results) {
+        for (final boolean result : results) {
+            final Scalar<Boolean> call = () -> {
+                if (!result) {
+                    throw new IOException("Failed");
+                }
+                return true;
+            };
+            try {
+                circuit.call(call);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                // Failures are expected
+            }
+        }
+    }
+}
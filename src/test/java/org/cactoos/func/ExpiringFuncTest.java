@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * Test case for {@link ExpiringFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ExpiringFuncTest {
+
+    @Test
+    void cachesUntilWriteExpiry() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final Func<String, Integer> func = new ExpiringFunc<>(
+            input -> loads.incrementAndGet(),
+            Duration.ofNanos(10L),
+            Duration.ofNanos(Long.MAX_VALUE),
+            clock::get
+        );
+        func.apply("a");
+        clock.set(9L);
+        new Assertion<>(
+            "Must return cached value before expiry",
+            func.apply("a"),
+            new IsEqual<>(1)
+        ).affirm();
+        clock.set(10L);
+        new Assertion<>(
+            "Must recalculate value after expiry",
+            func.apply("a"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void expiresAfterAccess() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final Func<String, Integer> func = new ExpiringFunc<>(
+            input -> loads.incrementAndGet(),
+            Duration.ofNanos(Long.MAX_VALUE),
+            Duration.ofNanos(5L),
+            clock::get
+        );
+        func.apply("b");
+        clock.set(4L);
+        func.apply("b");
+        clock.set(8L);
+        new Assertion<>(
+            "Must keep value which is read often",
+            func.apply("b"),
+            new IsEqual<>(1)
+        ).affirm();
+        clock.set(13L);
+        new Assertion<>(
+            "Must recalculate value which was idle",
+            func.apply("b"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void expiresKeysIndependently() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final Func<Integer, Long> func = new ExpiringFunc<>(
+            input -> clock.get(),
+            Duration.ofNanos(10L),
+            Duration.ofNanos(Long.MAX_VALUE),
+            clock::get
+        );
+        func.apply(1);
+        clock.set(5L);
+        func.apply(2);
+        clock.set(12L);
+        new Assertion<>(
+            "Must keep value which is not expired yet",
+            func.apply(2),
+            new IsEqual<>(5L)
+        ).affirm();
+    }
+
+    @Test
+    void loadsOnceInThreads() {
+        final AtomicInteger loads = new AtomicInteger();
+        final Func<Boolean, Integer> expiring = new ExpiringFunc<>(
+            input -> loads.incrementAndGet(),
+            Duration.ofMinutes(1L)
+        );
+        new Assertion<>(
+            "Must return the same value in all threads",
+            func -> func.apply(true),
+            new RunsInThreads<Func<Boolean, Boolean>>(
+                input -> expiring.apply(input) == 1
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link HedgedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class HedgedFuncTest {
+
+    @Test
+    void returnsFastResultWithoutDuplicate() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            new Assertion<>(
+                "Must return the result of the only call",
+                new HedgedFunc<Integer, Integer>(
+                    input -> calls.incrementAndGet(),
+                    Duration.ofMinutes(1L),
+                    executor
+                ).apply(1),
+                new IsEqual<>(1)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void takesResultOfDuplicate() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            new Assertion<>(
+                "Must take the result of the fast duplicate",
+                new HedgedFunc<Integer, String>(
+                    input -> {
+                        if (calls.incrementAndGet() == 1) {
+                            TimeUnit.MINUTES.sleep(1L);
+                            return "slow";
+                        }
+                        return "fast";
+                    },
+                    Duration.ofMillis(10L),
+                    executor
+                ).apply(1),
+                new IsEqual<>("fast")
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void throwsWhenBothCallsFail() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must throw the exception of the origin",
+                () -> new HedgedFunc<Integer, String>(
+                    input -> {
+                        throw new IOException("Down");
+                    },
+                    Duration.ZERO,
+                    executor
+                ).apply(1),
+                new Throws<>("Down", IOException.class)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void adaptsDelayToPercentile() {
+        final HedgeDelay delay = new HedgeDelay.Percentile(
+            0.5d, 4, Duration.ofSeconds(1L)
+        );
+        for (long nanos = 1L; nanos <= 4L; ++nanos) {
+            delay.observed(Duration.ofNanos(nanos * 10L));
+        }
+        new Assertion<>(
+            "Must use the median of latencies",
+            delay.delay(),
+            new IsEqual<>(Duration.ofNanos(20L))
+        ).affirm();
+    }
+
+    @Test
+    void recalculatesPercentileAfterPeriod() {
+        final HedgeDelay delay = new HedgeDelay.Percentile(
+            0.5d, 4, 2, Duration.ofSeconds(1L)
+        );
+        for (long nanos = 1L; nanos <= 5L; ++nanos) {
+            delay.observed(Duration.ofNanos(nanos * 10L));
+        }
+        new Assertion<>(
+            "Must keep the median until the period ends",
+            delay.delay(),
+            new IsEqual<>(Duration.ofNanos(20L))
+        ).affirm();
+        delay.observed(Duration.ofNanos(60L));
+        new Assertion<>(
+            "Must calculate the median again after the period",
+            delay.delay(),
+            new IsEqual<>(Duration.ofNanos(40L))
+        ).affirm();
+    }
+}
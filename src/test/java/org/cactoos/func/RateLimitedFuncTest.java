@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RateLimitedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RateLimitedFuncTest {
+
+    @Test
+    void callsWithinBudget() throws Exception {
+        new Assertion<>(
+            "Must call the function",
+            new RateLimitedFunc<Integer, Integer>(
+                input -> input + 1,
+                new TokenBucket(10, Duration.ofSeconds(1L))
+            ).apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsOverBudget() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            1, Duration.ofHours(1L), 1, () -> 0L
+        );
+        new RateLimitedFunc<Integer, Integer>(
+            input -> input, bucket, Duration.ZERO
+        ).apply(1);
+        new Assertion<>(
+            "Must reject the call, which shares the budget",
+            () -> new RateLimitedFunc<Integer, Integer>(
+                input -> input, bucket, Duration.ZERO
+            ).apply(2),
+            new Throws<>(
+                "No permit available in PT0S", RateLimitException.class
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RefreshingFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RefreshingFuncTest {
+
+    @Test
+    void refreshesEachKeyInBackground() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        final Func<Integer, Integer> func = new RefreshingFunc<>(
+            input -> input * 100 + loads.incrementAndGet(),
+            Duration.ofNanos(10L),
+            Integer.MAX_VALUE,
+            exec,
+            clock::get
+        );
+        func.apply(1);
+        func.apply(2);
+        clock.set(20L);
+        new Assertion<>(
+            "Must return cached value while refreshing",
+            func.apply(1),
+            new IsEqual<>(101)
+        ).affirm();
+        exec.shutdown();
+        exec.awaitTermination(1L, TimeUnit.MINUTES);
+        new Assertion<>(
+            "Must return refreshed value",
+            func.apply(1),
+            new IsEqual<>(103)
+        ).affirm();
+        new Assertion<>(
+            "Must not refresh other keys",
+            func.apply(2),
+            new IsEqual<>(202)
+        ).affirm();
+    }
+
+    @Test
+    void evictsKeysBeyondMaximum() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final Func<Integer, Integer> func = new RefreshingFunc<>(
+                input -> loads.incrementAndGet(),
+                Duration.ofMinutes(1L),
+                1,
+                exec
+            );
+            func.apply(1);
+            func.apply(2);
+            new Assertion<>(
+                "Must calculate the evicted key again",
+                func.apply(1),
+                new IsEqual<>(3)
+            ).affirm();
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RetryStage}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RetryStageTest {
+
+    @Test
+    void retriesUntilSuccess() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must succeed on the third attempt",
+            new RetryStage<Integer, Integer>(
+                new AsyncStage<>(
+                    input -> {
+                        if (calls.incrementAndGet() < 3) {
+                            throw new IOException("Not yet");
+                        }
+                        return input;
+                    }
+                ),
+                5,
+                new Backoff.Exponential(
+                    Duration.ofMillis(1L), Duration.ofMillis(10L)
+                )
+            ).apply(7).get(),
+            new IsEqual<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterAllAttempts() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new RetryStage<Integer, Integer>(
+            input -> {
+                calls.incrementAndGet();
+                throw new IOException("Never");
+            },
+            3,
+            new Backoff.Fixed(Duration.ofMillis(1L))
+        ).apply(1).handle((result, error) -> error).get();
+        new Assertion<>(
+            "Must try three times",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void doesNotRetryOtherExceptions() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<Integer> future = new RetryStage<>(
+            (Integer input) -> {
+                calls.incrementAndGet();
+                final CompletableFuture<Integer> failed =
+                    new CompletableFuture<>();
+                failed.completeExceptionally(
+                    new IllegalStateException("Fatal")
+                );
+                return failed;
+            },
+            attempt -> attempt >= 5,
+            new Backoff.Fixed(Duration.ZERO),
+            new IterableOf<>(IOException.class),
+            new SharedScheduler().value()
+        ).apply(1);
+        new Assertion<>(
+            "Must fail with the error of the first attempt",
+            future.handle((result, error) -> error).get(),
+            new IsInstanceOf(IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must try once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotWaitAfterLastAttempt() throws Exception {
+        final AtomicInteger delays = new AtomicInteger();
+        new RetryStage<Integer, Integer>(
+            input -> {
+                throw new IOException("Never");
+            },
+            3,
+            (attempt, previous) -> {
+                delays.incrementAndGet();
+                return Duration.ZERO;
+            }
+        ).apply(1).handle((result, error) -> error).get();
+        new Assertion<>(
+            "Must schedule only the attempts after the first one",
+            delays.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -4,8 +4,12 @@
  */
 package org.cactoos.func;
 
+import java.io.IOException;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsApplicable;
@@ -78,5 +82,100 @@ final class RetryTest {
             ).apply(true),
             new Throws<>("sleep interrupted", InterruptedException.class)
         ).affirm();
+        new Assertion<>(
+            "Must restore the interrupted status",
+            Thread.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void doesNotRetryOtherExceptions() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must throw right away",
+            () -> new Retry<>(
+                input -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("Fatal");
+                },
+                attempt -> attempt >= 5,
+                new Backoff.Fixed(Duration.ZERO),
+                new IterableOf<>(IOException.class)
+            ).apply(true),
+            new Throws<>("Fatal", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must try only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void retriesWithBackoff() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must succeed after backing off",
+            new Retry<>(
+                input -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new IOException("Not yet");
+                    }
+                    return input;
+                },
+                5,
+                new Backoff.Exponential(
+                    Duration.ofMillis(1L), Duration.ofMillis(4L)
+                )
+            ).apply(true),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotWaitAfterLastAttempt() {
+        final AtomicInteger delays = new AtomicInteger();
+        new Assertion<>(
+            "Must fail after the last attempt",
+            () -> new Retry<>(
+                input -> {
+                    throw new IOException("Never");
+                },
+                3,
+                (attempt, previous) -> {
+                    delays.incrementAndGet();
+                    return Duration.ZERO;
+                }
+            ).apply(true),
+            new Throws<>("Never", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must wait only between attempts",
+            delays.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void sleepsForSubMillisecondDelays() {
+        final long start = System.nanoTime();
+        new Assertion<>(
+            "Must fail after all attempts",
+            () -> new Retry<>(
+                input -> {
+                    throw new IOException("Again");
+                },
+                3,
+                (attempt, previous) -> Duration.ofNanos(400_000L)
+            ).apply(true),
+            new Throws<>("Again", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must sleep between attempts, even less than a millisecond",
+            System.nanoTime() - start >= 800_000L,
+            new IsEqual<>(true)
+        ).affirm();
     }
 }
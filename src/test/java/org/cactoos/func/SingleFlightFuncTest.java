@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SingleFlightFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class SingleFlightFuncTest {
+
+    @Test
+    void coalescesConcurrentCalls() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> flight = new SingleFlightFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                Thread.sleep(500L);
+                return input;
+            }
+        );
+        new Assertion<>(
+            "Must return the same result to all threads",
+            func -> func.apply(true),
+            new RunsInThreads<Func<Boolean, Boolean>>(
+                input -> flight.apply(1) == 1
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must call origin only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void retainsNothingAfterCompletion() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SingleFlightFunc<>(
+            input -> calls.incrementAndGet()
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must call origin again",
+            func.apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void throwsOriginalException() {
+        new Assertion<>(
+            "Must rethrow exception of origin",
+            () -> new SingleFlightFunc<Integer, Integer>(
+                input -> {
+                    throw new IOException("Failure");
+                }
+            ).apply(1),
+            new Throws<>("Failure", IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SoftFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class SoftFuncTest {
+
+    @Test
+    void cachesReachableResults() throws Exception {
+        final Func<Integer, StringBuilder> func = new SoftFunc<>(
+            input -> new StringBuilder().append(input)
+        );
+        final StringBuilder first = func.apply(1);
+        new Assertion<>(
+            "Must return cached value",
+            func.apply(1),
+            new IsSame<>(first)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheNulls() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, String> func = new SoftFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must call origin for every NULL result",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
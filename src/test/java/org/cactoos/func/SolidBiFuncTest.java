@@ -5,6 +5,7 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.BiFunc;
 import org.cactoos.Func;
 import org.hamcrest.core.IsEqual;
@@ -64,4 +65,21 @@ final class SolidBiFuncTest {
             )
         ).affirm();
     }
+
+    @Test
+    void computesNullArgumentsOnce() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final BiFunc<String, String, Integer> func = new SolidBiFunc<>(
+            (first, second) -> loads.incrementAndGet()
+        );
+        func.apply(null, "a");
+        func.apply(null, "a");
+        func.apply(null, null);
+        func.apply(null, null);
+        new Assertion<>(
+            "Must compute NULL arguments only once per pair",
+            loads.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
 }
@@ -5,12 +5,15 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link SolidFunc}.
@@ -51,4 +54,94 @@ final class SolidFuncTest {
         ).affirm();
     }
 
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> new SecureRandom().nextInt(), 2
+        );
+        final int first = func.apply(0);
+        func.apply(1);
+        func.apply(0);
+        func.apply(2);
+        new Assertion<>(
+            "Must keep recently used result",
+            func.apply(0),
+            new IsEqual<>(first)
+        ).affirm();
+    }
+
+    @Test
+    void cachesWithZeroBuffer() throws Exception {
+        final Func<Boolean, Integer> func = new SolidFunc<>(
+            input -> new SecureRandom().nextInt(), 0
+        );
+        new Assertion<>(
+            "Must not be cached",
+            func.apply(true) + func.apply(true),
+            new IsNot<>(
+                new IsEqual<>(func.apply(true) + func.apply(true))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void loadsEachKeyOnceInThreads() {
+        final AtomicInteger loads = new AtomicInteger();
+        final Func<Integer, Integer> solid = new SolidFunc<>(
+            input -> {
+                loads.incrementAndGet();
+                return input;
+            }
+        );
+        new Assertion<>(
+            "Must work in threads",
+            func -> func.apply(true),
+            new RunsInThreads<Func<Boolean, Boolean>>(
+                input -> solid.apply(1) + solid.apply(2) == 3
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must load each key only once",
+            loads.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheFailures() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Func<Boolean, Integer> func = new SolidFunc<>(
+            input -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new IllegalStateException("First attempt fails");
+                }
+                return attempts.get();
+            }
+        );
+        new Assertion<>(
+            "Must fail first time",
+            () -> func.apply(true),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must load again after failure",
+            func.apply(true),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void computesNullInputOnce() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final Func<String, Integer> func = new SolidFunc<>(
+            input -> loads.incrementAndGet()
+        );
+        func.apply(null);
+        func.apply(null);
+        new Assertion<>(
+            "Must compute NULL input only once",
+            loads.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
 }
@@ -30,4 +30,19 @@ final class StickyBiFuncTest {
         ).affirm();
     }
 
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final BiFunc<Integer, Integer, Integer> func = new StickyBiFunc<>(
+            (first, second) -> new SecureRandom().nextInt(), 2
+        );
+        final int first = func.apply(0, 0);
+        func.apply(1, 1);
+        func.apply(0, 0);
+        func.apply(2, 2);
+        new Assertion<>(
+            "Must keep recently used result",
+            func.apply(0, 0),
+            new IsEqual<>(first)
+        ).affirm();
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link StickyLongFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class StickyLongFuncTest {
+
+    @Test
+    void cachesFuncResults() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final StickyLongFunc<String> func = new StickyLongFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                return String.valueOf(input);
+            }
+        );
+        for (long idx = 0; idx < 1000; ++idx) {
+            func.apply(idx);
+        }
+        for (long idx = 0; idx < 1000; ++idx) {
+            new Assertion<>(
+                "Must return cached value",
+                func.apply(idx),
+                new IsEqual<>(String.valueOf(idx))
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must call origin once per key",
+            calls.get(),
+            new IsEqual<>(1000)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNegativeKeys() throws Exception {
+        final StickyLongFunc<Long> func = new StickyLongFunc<>(input -> -input);
+        func.apply(-7L);
+        new Assertion<>(
+            "Must return value of negative key",
+            func.apply(Long.valueOf(-7L)),
+            new IsEqual<>(7L)
+        ).affirm();
+    }
+
+    @Test
+    void supportsRecursiveCalls() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicReference<StickyLongFunc<Long>> self =
+            new AtomicReference<>();
+        self.set(
+            new StickyLongFunc<>(
+                input -> {
+                    calls.incrementAndGet();
+                    final long result;
+                    if (input < 2) {
+                        result = input.longValue();
+                    } else {
+                        result = self.get().apply(input - 1)
+                            + self.get().apply(input - 2);
+                    }
+                    return result;
+                }
+            )
+        );
+        new Assertion<>(
+            "Must calculate recursively",
+            self.get().apply(50L),
+            new IsEqual<>(12_586_269_025L)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate every key once",
+            calls.get(),
+            new IsEqual<>(51)
+        ).affirm();
+    }
+
+    @Test
+    void clearsCacheWhenFull() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final StickyLongFunc<Integer> func = new StickyLongFunc<>(
+            input -> calls.incrementAndGet(), 2
+        );
+        func.apply(1L);
+        func.apply(2L);
+        func.apply(3L);
+        func.apply(3L);
+        func.apply(1L);
+        new Assertion<>(
+            "Must keep no more keys than the maximum",
+            calls.get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+}
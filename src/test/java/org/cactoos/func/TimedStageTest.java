@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TimedStage}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class TimedStageTest {
+
+    @Test
+    void timesOut() throws Exception {
+        new Assertion<>(
+            "Must complete with timeout",
+            new TimedStage<Boolean, Boolean>(
+                input -> new CompletableFuture<>(),
+                Duration.ofMillis(50L)
+            ).apply(true).handle((result, error) -> error).get(),
+            new IsInstanceOf(TimeoutException.class)
+        ).affirm();
+    }
+
+    @Test
+    void completesInTime() throws Exception {
+        new Assertion<>(
+            "Must complete with result",
+            new TimedStage<Boolean, Boolean>(
+                new AsyncStage<>(input -> input),
+                Duration.ofSeconds(5L)
+            ).apply(true).get(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void sharesOneThreadBetweenInstances() throws Exception {
+        for (int idx = 0; idx < 200; ++idx) {
+            new TimedStage<Boolean, Boolean>(
+                input -> new CompletableFuture<>(),
+                Duration.ofMillis(50L)
+            ).apply(true);
+        }
+        new Assertion<>(
+            "Must watch the timeouts of all instances in one thread",
+            Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> "cactoos-scheduler".equals(thread.getName()))
+                .count(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+}
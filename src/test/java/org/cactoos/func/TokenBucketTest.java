@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TokenBucket}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class TokenBucketTest {
+
+    @Test
+    void allowsBurstUpToCapacity() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            10, Duration.ofNanos(1000L), 3, () -> 0L
+        );
+        int taken = 0;
+        for (int idx = 0; idx < 5; ++idx) {
+            if (bucket.acquire(Duration.ZERO)) {
+                taken += 1;
+            }
+        }
+        new Assertion<>(
+            "Must give out the burst only",
+            taken,
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void refillsOverTime() throws Exception {
+        final AtomicLong time = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(
+            10, Duration.ofNanos(1000L), 1, time::get
+        );
+        bucket.acquire(Duration.ZERO);
+        time.set(100L);
+        new Assertion<>(
+            "Must refill a permit after the interval",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForPermitWithinTimeout() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            100, Duration.ofSeconds(1L), 1
+        );
+        bucket.acquire();
+        new Assertion<>(
+            "Must wait for the next permit",
+            bucket.acquire(Duration.ofSeconds(1L)),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
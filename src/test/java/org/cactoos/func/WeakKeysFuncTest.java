@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * Test case for {@link WeakKeysFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class WeakKeysFuncTest {
+
+    @Test
+    void cachesResultsOfReachableKeys() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new WeakKeysFunc<>(
+            input -> calls.incrementAndGet()
+        );
+        final String key = "key";
+        func.apply(key);
+        new Assertion<>(
+            "Must return cached value",
+            func.apply(key),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void worksInThreads() {
+        final Func<Integer, Integer> weak = new WeakKeysFunc<>(
+            input -> input * 2
+        );
+        new Assertion<>(
+            "Must work in multiple threads",
+            func -> func.apply(true),
+            new RunsInThreads<Func<Boolean, Boolean>>(
+                input -> weak.apply(21) == 42
+            )
+        ).affirm();
+    }
+}
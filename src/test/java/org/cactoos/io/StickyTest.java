@@ -7,9 +7,12 @@ package org.cactoos.io;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Input;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.func.Repeated;
 import org.cactoos.scalar.LengthOf;
+import org.cactoos.scalar.Soft;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -90,4 +93,27 @@ final class StickyTest {
         ).affirm();
     }
 
+    @Test
+    void cachesContentInSoftReference() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        final Input input = new Sticky(
+            () -> {
+                reads.incrementAndGet();
+                return new InputOf("Soft content").stream();
+            },
+            Soft::new
+        );
+        new BytesOf(input).asBytes();
+        new Assertion<>(
+            "Must read the content from the soft cache",
+            new TextOf(input).asString(),
+            new IsEqual<>("Soft content")
+        ).affirm();
+        new Assertion<>(
+            "Must read the origin only once",
+            reads.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
 }
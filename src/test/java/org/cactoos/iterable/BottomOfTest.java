@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.list.ListOf;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link BottomOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class BottomOfTest {
+
+    @Test
+    void selectsLowestItems() {
+        new Assertion<>(
+            "Must select the lowest items in ascending order",
+            new BottomOf<>(3, new IterableOf<>(7, -2, 9, 4, 0, 11)),
+            Matchers.contains(-2, 0, 4)
+        ).affirm();
+    }
+
+    @Test
+    void selectsLikeHeadOfSorted() {
+        final List<String> words = BottomOfTest.words();
+        final Comparator<String> cmp = Comparator.comparing(
+            word -> word.charAt(0)
+        );
+        new Assertion<>(
+            "Must select the same items as the head of a stable sort",
+            new ListOf<>(new BottomOf<>(cmp, 25, words)),
+            new IsEqual<>(
+                new ListOf<>(new HeadOf<>(25, new Sorted<>(cmp, words)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void selectsAllItemsIfThereAreFewer() {
+        new Assertion<>(
+            "Must select all items, sorted",
+            new BottomOf<>(10, new IterableOf<>("b", "c", "a")),
+            Matchers.contains("a", "b", "c")
+        ).affirm();
+    }
+
+    @Test
+    void selectsNothingForZeroCount() {
+        new Assertion<>(
+            "Must select no items",
+            new BottomOf<>(0, new IterableOf<>(1, 2, 3)),
+            Matchers.emptyIterable()
+        ).affirm();
+    }
+
+    @Test
+    void selectsInParallelTheSameWay() {
+        final List<String> words = BottomOfTest.words();
+        final Comparator<String> cmp = Comparator.comparing(
+            word -> word.charAt(0)
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new Assertion<>(
+                "Must select in parallel the same items",
+                new ListOf<>(new BottomOf<>(cmp, 25, executor, 64, words)),
+                new IsEqual<>(new ListOf<>(new BottomOf<>(cmp, 25, words)))
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Random words, with many equal first letters.
+     * @return Words
+     */
+    private static List<String> words() {
+        final Random random = new Random(11L);
+        final List<String> words = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; ++idx) {
+            words.add(Integer.toString(random.nextInt(100_000), 36));
+        }
+        return words;
+    }
+}
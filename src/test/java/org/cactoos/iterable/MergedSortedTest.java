@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MergedSorted}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MergedSortedTest {
+
+    @Test
+    void mergesLikeSortedJoined() {
+        final Iterable<Integer> first = new IterableOf<>(-3, 0, 0, 8, 15);
+        final Iterable<Integer> second = new IterableOf<>(1, 2, 8, 40);
+        final Iterable<Integer> third = new IterableOf<>(-5, 16);
+        new Assertion<>(
+            "Must merge the same items as a sort of joined iterables",
+            new ListOf<>(
+                new MergedSorted<>(
+                    Comparator.<Integer>naturalOrder(), first, second, third
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(new Sorted<>(new Joined<>(first, second, third)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void mergesDistinctItems() {
+        new Assertion<>(
+            "Must merge sorted iterables without duplicates",
+            new ListOf<>(
+                new MergedSorted<>(
+                    Comparator.<String>naturalOrder(), true,
+                    new IterableOf<Iterable<String>>(
+                        new IterableOf<>("a", "c", "c"),
+                        new IterableOf<>("b", "c", "d")
+                    )
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b", "c", "d"))
+        ).affirm();
+    }
+
+    @Test
+    void iteratesTwice() {
+        final Iterable<Integer> merged = new MergedSorted<>(
+            Comparator.<Integer>naturalOrder(),
+            new IterableOf<>(2, 4), new IterableOf<>(1, 3)
+        );
+        new ListOf<>(merged);
+        new Assertion<>(
+            "Must merge the iterables again",
+            new ListOf<>(merged),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 4))
+        ).affirm();
+    }
+}
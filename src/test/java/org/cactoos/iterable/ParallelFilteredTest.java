@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.cactoos.set.SetOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ParallelFiltered}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ParallelFilteredTest {
+
+    @Test
+    void filtersInOrderOfSource() {
+        final Iterable<Integer> numbers = new RangeOf<>(
+            1, 1000, num -> num + 1
+        );
+        new Assertion<>(
+            "Must filter the same items as Filtered, in the same order",
+            new ListOf<>(
+                new ParallelFiltered<>(num -> num % 3 == 0, 7, 3, numbers)
+            ),
+            new IsEqual<>(
+                new ListOf<>(new Filtered<>(num -> num % 3 == 0, numbers))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void filtersWithoutOrder() {
+        final Iterable<Integer> numbers = new RangeOf<>(
+            1, 1000, num -> num + 1
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new Assertion<>(
+                "Must filter the same items as Filtered",
+                new SetOf<>(
+                    new ParallelFiltered<>(
+                        num -> num % 7 == 0, executor, 10, 4, false, numbers
+                    )
+                ),
+                new IsEqual<>(
+                    new SetOf<>(new Filtered<>(num -> num % 7 == 0, numbers))
+                )
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void pullsSourceOnlyToLookahead() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final Iterator<Integer> iterator = new ParallelFiltered<>(
+            num -> num > 0, 5, 2,
+            new Mapped<>(
+                num -> {
+                    pulled.incrementAndGet();
+                    return num;
+                },
+                new RangeOf<>(1, 100, num -> num + 1)
+            )
+        ).iterator();
+        iterator.next();
+        new Assertion<>(
+            "Must pull no more items than the lookahead of chunks",
+            pulled.get(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void throwsExceptionOfPredicate() {
+        new Assertion<>(
+            "Must throw the exception of the predicate",
+            () -> new ListOf<>(
+                new ParallelFiltered<Integer>(
+                    num -> {
+                        if (num == 42) {
+                            throw new IllegalStateException("Broken record");
+                        }
+                        return true;
+                    },
+                    8, 2,
+                    new RangeOf<>(1, 100, num -> num + 1)
+                )
+            ),
+            new Throws<>("Broken record", IllegalStateException.class)
+        ).affirm();
+    }
+}
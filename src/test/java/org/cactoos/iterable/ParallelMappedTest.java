@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ParallelMapped}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ParallelMappedTest {
+
+    @Test
+    void mapsInOrderOfSource() {
+        new Assertion<>(
+            "Must map all items in the order of the source",
+            new ListOf<>(
+                new ParallelMapped<>(
+                    String::length,
+                    2,
+                    new IterableOf<>("a", "bbb", "cc", "dddd", "")
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 3, 2, 4, 0))
+        ).affirm();
+    }
+
+    @Test
+    void mapsTheSameItemsTwice() {
+        final Iterable<Integer> mapped = new ParallelMapped<>(
+            num -> num * num, new IterableOf<>(1, 2, 3)
+        );
+        new ListOf<>(mapped);
+        new Assertion<>(
+            "Must map the source again, when iterated again",
+            new ListOf<>(mapped),
+            new IsEqual<>(new ListOf<>(1, 4, 9))
+        ).affirm();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SortedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SortedDoublesTest {
+
+    @Test
+    void sortsValues() {
+        new Assertion<>(
+            "Must sort the values like Sorted does",
+            new ListOf<>(new SortedDoubles(3.5, Double.NaN, -0.0, 0.0, -2.0)),
+            new IsEqual<>(
+                new ListOf<>(new Sorted<>(new IterableOfDoubles(3.5, Double.NaN, -0.0, 0.0, -2.0)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void sortsValuesInParallel() {
+        new Assertion<>(
+            "Must sort the values in parallel",
+            new ListOf<>(new SortedDoubles(1, new double[] {3.5, Double.NaN, -0.0, 0.0, -2.0})),
+            new IsEqual<>(new ListOf<Double>(-2.0, -0.0, 0.0, 3.5, Double.NaN))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotChangeTheArray() {
+        final double[] values = {3.5, Double.NaN, -0.0, 0.0, -2.0};
+        new ListOf<>(new SortedDoubles(1, values));
+        new Assertion<>(
+            "Must sort a copy of the array",
+            new ListOf<>(new IterableOfDoubles(values)),
+            new IsEqual<>(new ListOf<Double>(3.5, Double.NaN, -0.0, 0.0, -2.0))
+        ).affirm();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SortedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SortedIntsTest {
+
+    @Test
+    void sortsValues() {
+        new Assertion<>(
+            "Must sort the values like Sorted does",
+            new ListOf<>(new SortedInts(3, -1, 7, 0, 3)),
+            new IsEqual<>(
+                new ListOf<>(new Sorted<>(new IterableOfInts(3, -1, 7, 0, 3)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void sortsValuesInParallel() {
+        new Assertion<>(
+            "Must sort the values in parallel",
+            new ListOf<>(new SortedInts(1, new int[] {3, -1, 7, 0, 3})),
+            new IsEqual<>(new ListOf<Integer>(-1, 0, 3, 3, 7))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotChangeTheArray() {
+        final int[] values = {3, -1, 7, 0, 3};
+        new ListOf<>(new SortedInts(1, values));
+        new Assertion<>(
+            "Must sort a copy of the array",
+            new ListOf<>(new IterableOfInts(values)),
+            new IsEqual<>(new ListOf<Integer>(3, -1, 7, 0, 3))
+        ).affirm();
+    }
+}
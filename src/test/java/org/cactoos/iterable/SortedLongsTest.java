@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SortedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SortedLongsTest {
+
+    @Test
+    void sortsValues() {
+        new Assertion<>(
+            "Must sort the values like Sorted does",
+            new ListOf<>(new SortedLongs(3L, -1L, 7L, 0L, 3L)),
+            new IsEqual<>(
+                new ListOf<>(new Sorted<>(new IterableOfLongs(3L, -1L, 7L, 0L, 3L)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void sortsValuesInParallel() {
+        new Assertion<>(
+            "Must sort the values in parallel",
+            new ListOf<>(new SortedLongs(1, new long[] {3L, -1L, 7L, 0L, 3L})),
+            new IsEqual<>(new ListOf<Long>(-1L, 0L, 3L, 3L, 7L))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotChangeTheArray() {
+        final long[] values = {3L, -1L, 7L, 0L, 3L};
+        new ListOf<>(new SortedLongs(1, values));
+        new Assertion<>(
+            "Must sort a copy of the array",
+            new ListOf<>(new IterableOfLongs(values)),
+            new IsEqual<>(new ListOf<Long>(3L, -1L, 7L, 0L, 3L))
+        ).affirm();
+    }
+}
@@ -6,6 +6,7 @@ package org.cactoos.iterable;
 
 import java.util.Collections;
 import java.util.Comparator;
+import org.cactoos.io.Codec;
 import org.cactoos.list.ListOf;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
@@ -105,4 +106,16 @@ final class SortedTest {
             Matchers.contains(12, 1, 0, -4, -7)
         ).affirm();
     }
+
+    @Test
+    void sortsInTemporaryFiles() {
+        new Assertion<>(
+            "Must sort items, which don't fit in the budget",
+            new Sorted<>(
+                Comparator.reverseOrder(), new Codec.Utf8(), 2,
+                new IterableOf<>("b", "e", "a", "d", "c")
+            ),
+            Matchers.contains("e", "d", "c", "b", "a")
+        ).affirm();
+    }
 }
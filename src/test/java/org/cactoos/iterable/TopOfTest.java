@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.list.ListOf;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TopOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TopOfTest {
+
+    @Test
+    void selectsHighestItems() {
+        new Assertion<>(
+            "Must select the highest items in descending order",
+            new TopOf<>(2, new IterableOf<>(7, -2, 9, 4, 0, 11)),
+            Matchers.contains(11, 9)
+        ).affirm();
+    }
+
+    @Test
+    void selectsLikeHeadOfSorted() {
+        final Iterable<String> words = new IterableOf<>(
+            "pear", "fig", "apple", "kiwi", "plum", "lime", "date"
+        );
+        final Comparator<String> cmp = Comparator.comparing(String::length);
+        new Assertion<>(
+            "Must select the same items as the head of a reversed sort",
+            new ListOf<>(new TopOf<>(cmp, 3, words)),
+            new IsEqual<>(
+                new ListOf<>(
+                    new HeadOf<>(
+                        3, new Sorted<>(Collections.reverseOrder(cmp), words)
+                    )
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void selectsInParallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must select the highest items in parallel",
+                new TopOf<>(
+                    Comparator.<Integer>naturalOrder(), 3, executor, 10,
+                    new RangeOf<>(1, 1000, num -> num + 1)
+                ),
+                Matchers.contains(1000, 999, 998)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
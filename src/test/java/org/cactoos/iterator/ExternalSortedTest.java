@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.io.Codec;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ExternalSorted}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExternalSortedTest {
+
+    @Test
+    void sortsLikeSorted() {
+        final List<String> lines = new ArrayList<>(1000);
+        final Random random = new Random(7L);
+        for (int idx = 0; idx < 1000; ++idx) {
+            lines.add(Integer.toString(random.nextInt(500), 36));
+        }
+        new Assertion<>(
+            "Must sort the same way as Sorted, in many runs",
+            new ListOf<>(
+                new ExternalSorted<>(
+                    Comparator.naturalOrder(), new Codec.Utf8(), 37,
+                    lines.iterator()
+                )
+            ),
+            new IsEqual<>(new ListOf<>(new Sorted<>(lines.iterator())))
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfEqualItems() {
+        new Assertion<>(
+            "Must keep the order of equal elements across runs",
+            new ListOf<>(
+                new ExternalSorted<>(
+                    Comparator.comparing(String::length), new Codec.Utf8(), 2,
+                    new IteratorOf<>("bb", "a", "cc", "d", "eee", "ff", "g")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "d", "g", "bb", "cc", "ff", "eee"))
+        ).affirm();
+    }
+
+    @Test
+    void sortsInMemoryWithinBudget() {
+        final AtomicInteger written = new AtomicInteger();
+        final Codec<String> codec = new Codec<String>() {
+            @Override
+            public void write(final String item, final DataOutput output)
+                throws IOException {
+                written.incrementAndGet();
+                new Codec.Utf8().write(item, output);
+            }
+
+            @Override
+            public String read(final DataInput input) throws IOException {
+                return new Codec.Utf8().read(input);
+            }
+        };
+        new ListOf<>(
+            new ExternalSorted<>(
+                Comparator.naturalOrder(), codec, 3,
+                new IteratorOf<>("c", "a", "b")
+            )
+        );
+        new Assertion<>(
+            "Must not write items that fit in the budget",
+            written.get(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void deletesRunsWhenExhausted() throws Exception {
+        final List<Path> before = ExternalSortedTest.runs();
+        new ListOf<>(
+            new ExternalSorted<>(
+                Comparator.naturalOrder(), new Codec.Utf8(), 2,
+                new IteratorOf<>("e", "d", "c", "b", "a")
+            )
+        );
+        new Assertion<>(
+            "Must delete all runs after the last item",
+            ExternalSortedTest.runs(),
+            new IsEqual<>(before)
+        ).affirm();
+    }
+
+    @Test
+    void deletesRunsWhenClosed() throws Exception {
+        final List<Path> before = ExternalSortedTest.runs();
+        try (ExternalSorted<String> sorted = new ExternalSorted<>(
+            Comparator.naturalOrder(), new Codec.Utf8(), 2,
+            new IteratorOf<>("e", "d", "c", "b", "a")
+        )) {
+            new Assertion<>(
+                "Must return the smallest item",
+                sorted.next(),
+                new IsEqual<>("a")
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must delete all runs, when closed",
+            ExternalSortedTest.runs(),
+            new IsEqual<>(before)
+        ).affirm();
+    }
+
+    /**
+     * Runs in the temporary directory.
+     * @return Paths of the runs
+     * @throws IOException If fails
+     */
+    private static List<Path> runs() throws IOException {
+        try (Stream<Path> files = Files.list(
+            Paths.get(System.getProperty("java.io.tmpdir"))
+        )) {
+            return files
+                .filter(
+                    path -> path.getFileName().toString()
+                        .startsWith("cactoos-sorted-")
+                )
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
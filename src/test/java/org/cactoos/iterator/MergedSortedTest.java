@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MergedSorted}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MergedSortedTest {
+
+    @Test
+    void mergesSortedIterators() {
+        new Assertion<>(
+            "Must merge sorted iterators into one sorted iterator",
+            new ListOf<>(
+                new MergedSorted<>(
+                    Comparator.<Integer>naturalOrder(),
+                    new IteratorOf<>(1, 4, 9),
+                    new IteratorOf<>(),
+                    new IteratorOf<>(2, 3, 10, 11),
+                    new IteratorOf<>(0, 5)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(0, 1, 2, 3, 4, 5, 9, 10, 11))
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfIteratorsForEqualItems() {
+        new Assertion<>(
+            "Must return equal items in the order of the iterators",
+            new ListOf<>(
+                new MergedSorted<>(
+                    Comparator.comparing(String::length),
+                    new IteratorOf<>("b", "dd"),
+                    new IteratorOf<>("a", "cc", "eee")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("b", "a", "dd", "cc", "eee"))
+        ).affirm();
+    }
+
+    @Test
+    void skipsEqualItems() {
+        new Assertion<>(
+            "Must skip equal items, in one iterator and across them",
+            new ListOf<>(
+                new MergedSorted<>(
+                    Comparator.<Integer>naturalOrder(), true,
+                    new IterableOf<Iterator<Integer>>(
+                        new IteratorOf<>(1, 1, 3, 5),
+                        new IteratorOf<>(1, 2, 3, 3)
+                    )
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 5))
+        ).affirm();
+    }
+
+    @Test
+    void readsOneItemOfEveryIterator() {
+        final List<Integer> read = new ArrayList<>(0);
+        final Iterator<Integer> merged = new MergedSorted<>(
+            Comparator.<Integer>naturalOrder(),
+            new Mapped<>(
+                item -> {
+                    read.add(item);
+                    return item;
+                },
+                new IteratorOf<>(1, 3, 5)
+            ),
+            new Mapped<>(
+                item -> {
+                    read.add(item);
+                    return item;
+                },
+                new IteratorOf<>(2, 4, 6)
+            )
+        );
+        merged.next();
+        new Assertion<>(
+            "Must read only the next item of every iterator",
+            read,
+            Matchers.contains(1, 2, 3)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenExhausted() {
+        new Assertion<>(
+            "Must throw when there are no more items",
+            () -> new MergedSorted<>(
+                Comparator.<Integer>naturalOrder(), new IteratorOf<>()
+            ).next(),
+            new Throws<>(
+                "No more elements in the sorted iterators",
+                NoSuchElementException.class
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Tests for {@link ParallelMapped}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ParallelMappedTest {
+
+    @Test
+    void keepsOrderOfSource() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new Assertion<>(
+                "Must keep the order of the source",
+                new ListOf<>(
+                    new ParallelMapped<>(
+                        num -> {
+                            Thread.sleep(10L - num);
+                            return num * 2;
+                        },
+                        executor, 4,
+                        new IteratorOf<>(1, 2, 3, 4, 5, 6, 7, 8, 9)
+                    )
+                ),
+                new IsEqual<>(new ListOf<>(2, 4, 6, 8, 10, 12, 14, 16, 18))
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void returnsItemsAsSoonAsMappedWithoutOrder() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            new Assertion<>(
+                "Must return the item mapped first",
+                new ParallelMapped<Integer>(
+                    num -> {
+                        if (num == 1) {
+                            release.await(1L, TimeUnit.MINUTES);
+                        }
+                        return num;
+                    },
+                    executor, 2, false,
+                    new IteratorOf<>(1, 2)
+                ).next(),
+                new IsEqual<>(2)
+            ).affirm();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void pullsSourceOnlyToWindow() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AtomicInteger pulled = new AtomicInteger();
+            final Iterator<Integer> iterator = new ParallelMapped<>(
+                num -> num + 1,
+                executor, 3,
+                new Mapped<>(
+                    num -> {
+                        pulled.incrementAndGet();
+                        return num;
+                    },
+                    new IteratorOf<>(1, 2, 3, 4, 5, 6, 7, 8)
+                )
+            );
+            new Assertion<>(
+                "Must not pull the source before the first item is asked",
+                pulled.get(),
+                new IsEqual<>(0)
+            ).affirm();
+            iterator.next();
+            new Assertion<>(
+                "Must pull no more items than the window",
+                pulled.get(),
+                new IsEqual<>(3)
+            ).affirm();
+            iterator.next();
+            new Assertion<>(
+                "Must pull the next item, when the window frees up",
+                pulled.get(),
+                new IsEqual<>(4)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void throwsExceptionOfFunction() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Iterator<Integer> iterator = new ParallelMapped<Integer>(
+                num -> {
+                    if (num == 2) {
+                        throw new IllegalStateException("Broken item");
+                    }
+                    return num;
+                },
+                executor, 2,
+                new IteratorOf<>(1, 2, 3, 4)
+            );
+            iterator.next();
+            new Assertion<>(
+                "Must throw the exception of the function",
+                iterator::next,
+                new Throws<>("Broken item", IllegalStateException.class)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void throwsOriginalExceptionOfForkJoinTask() throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final CountDownLatch failed = new CountDownLatch(1);
+            final Iterator<Integer> iterator = new ParallelMapped<Integer>(
+                num -> {
+                    failed.countDown();
+                    throw new IllegalStateException("Broken in the pool");
+                },
+                pool, 1,
+                new IteratorOf<>(1)
+            );
+            iterator.hasNext();
+            failed.await(1L, TimeUnit.MINUTES);
+            new Assertion<>(
+                "Must throw the exception of the function, not its copy",
+                iterator::next,
+                new Throws<>("Broken in the pool", IllegalStateException.class)
+            ).affirm();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void throwsExceptionWithCauseOfSameType() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must throw the exception of the function, not its cause",
+                () -> new ParallelMapped<Integer>(
+                    num -> {
+                        throw new IOException(
+                            "Outer", new IOException("Inner")
+                        );
+                    },
+                    executor, 1,
+                    new IteratorOf<>(1)
+                ).next(),
+                new Throws<>(
+                    "java.io.IOException: Outer", UncheckedIOException.class
+                )
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void endsAfterFailure() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Iterator<Integer> iterator = new ParallelMapped<Integer>(
+                num -> {
+                    if (num == 1) {
+                        throw new IllegalStateException("First item");
+                    }
+                    return num;
+                },
+                executor, 2,
+                new IteratorOf<>(1, 2, 3)
+            );
+            new Assertion<>(
+                "Must throw the exception of the first item",
+                iterator::next,
+                new Throws<>("First item", IllegalStateException.class)
+            ).affirm();
+            new Assertion<>(
+                "Must not have items after the failure",
+                iterator.hasNext(),
+                new IsEqual<>(false)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failsIfIteratorExhausted() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Iterator<String> iterator = new ParallelMapped<>(
+                Number::toString, executor, 1,
+                new IterableOf<Number>(1).iterator()
+            );
+            iterator.next();
+            new Assertion<>(
+                "Must throw NSEE",
+                iterator::next,
+                new Throws<>(NoSuchElementException.class)
+            ).affirm();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -4,7 +4,14 @@
  */
 package org.cactoos.iterator;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Reversed;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValues;
@@ -34,4 +41,61 @@ final class SortedTest {
         ).affirm();
     }
 
+    @Test
+    void sortsMoreItemsThanInitialCapacity() {
+        new Assertion<>(
+            "Must sort all elements, when the buffer grows",
+            new ListOf<>(
+                new Sorted<>(
+                    Comparator.reverseOrder(),
+                    new RangeOf<>(1, 100, num -> num + 1)
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    new Reversed<>(
+                        new org.cactoos.iterable.RangeOf<>(
+                            1, 100, num -> num + 1
+                        )
+                    )
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void sortsInParallelTheSameWay() {
+        final List<Integer> numbers = new ArrayList<>(50_000);
+        final Random random = new Random(42L);
+        for (int idx = 0; idx < 50_000; ++idx) {
+            numbers.add(random.nextInt(1000));
+        }
+        new Assertion<>(
+            "Must sort in parallel the same way as sequentially",
+            new ListOf<>(
+                new Sorted<>(
+                    Comparator.naturalOrder(), 1, numbers.iterator()
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    new Sorted<>(Comparator.naturalOrder(), numbers.iterator())
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfEqualItems() {
+        new Assertion<>(
+            "Must keep the order of equal elements",
+            new ListOf<>(
+                new Sorted<>(
+                    Comparator.comparing(String::length), 1,
+                    new IteratorOf<>("bb", "a", "cc", "d", "eee", "ff")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "d", "bb", "cc", "ff", "eee"))
+        ).affirm();
+    }
 }
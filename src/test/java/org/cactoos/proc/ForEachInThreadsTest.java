@@ -5,6 +5,7 @@
 package org.cactoos.proc;
 
 import java.util.List;
+import org.cactoos.experimental.VirtualThreads;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Synced;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
@@ -47,4 +48,22 @@ final class ForEachInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void runsProcInVirtualThreads() throws Exception {
+        final List<Integer> list = new Synced<>(new ListOf<>());
+        new ForEachInThreads<Integer>(
+            list::add, new VirtualThreads()
+        ).exec(new ListOf<>(1, 2, 3));
+        new Assertion<>(
+            "List must contain all elements",
+            list,
+            new IsIterableContainingInAnyOrder<>(
+                new ListOf<>(
+                    new IsEqual<>(1),
+                    new IsEqual<>(2),
+                    new IsEqual<>(3)
+                )
+            )
+        ).affirm();
+    }
 }
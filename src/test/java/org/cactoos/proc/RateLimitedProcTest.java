@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.TokenBucket;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RateLimitedProc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RateLimitedProcTest {
+
+    @Test
+    void runsProcWithinBudget() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final RateLimitedProc<Integer> proc = new RateLimitedProc<>(
+            count::addAndGet,
+            new TokenBucket(1000, Duration.ofSeconds(1L), 2)
+        );
+        proc.exec(1);
+        proc.exec(2);
+        proc.exec(3);
+        new Assertion<>(
+            "Must run the proc every time",
+            count.get(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void runsProcWithTimeout() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        new RateLimitedProc<Integer>(
+            count::addAndGet,
+            new TokenBucket(10, Duration.ofSeconds(1L)),
+            Duration.ZERO
+        ).exec(5);
+        new Assertion<>(
+            "Must run the proc",
+            count.get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+}
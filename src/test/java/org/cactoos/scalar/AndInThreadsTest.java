@@ -5,9 +5,12 @@
 package org.cactoos.scalar;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.cactoos.Scalar;
+import org.cactoos.experimental.VirtualThreads;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
@@ -220,4 +223,89 @@ final class AndInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void worksWithFactoryOfService() throws Exception {
+        final Scalar<ExecutorService> service = new VirtualThreads();
+        final AndInThreads and = new AndInThreads(
+            service,
+            new ListOf<Scalar<Boolean>>(
+                new Constant<>(true),
+                new Constant<>(true)
+            )
+        );
+        and.value();
+        new Assertion<>(
+            "Result should be calculated again in a new service",
+            and.value(),
+            Matchers.equalTo(true)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsSiblingsOnFirstFalse() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must not wait for the slow scalar",
+                new AndInThreads(
+                    service,
+                    () -> {
+                        started.countDown();
+                        try {
+                            TimeUnit.MINUTES.sleep(1L);
+                        } catch (final InterruptedException ex) {
+                            interrupted.countDown();
+                        }
+                        return true;
+                    },
+                    () -> !started.await(1L, TimeUnit.MINUTES)
+                ).value(),
+                Matchers.equalTo(false)
+            ).affirm();
+            new Assertion<>(
+                "Must interrupt the slow scalar",
+                interrupted.await(1L, TimeUnit.MINUTES),
+                Matchers.equalTo(true)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void doesNotWaitForUninterruptibleSibling() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(1);
+        try {
+            new Assertion<>(
+                "Must return the result while the sibling still runs",
+                new AndInThreads(
+                    () -> {
+                        started.countDown();
+                        while (release.getCount() > 0L) {
+                            try {
+                                release.await();
+                            } catch (final InterruptedException ex) {
+                                // The sibling ignores interrupts
+                            }
+                        }
+                        finished.countDown();
+                        return true;
+                    },
+                    () -> !started.await(1L, TimeUnit.MINUTES)
+                ).value(),
+                Matchers.equalTo(false)
+            ).affirm();
+            new Assertion<>(
+                "Must not wait for the sibling to finish",
+                finished.getCount(),
+                Matchers.equalTo(1L)
+            ).affirm();
+        } finally {
+            release.countDown();
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.cactoos.Fallback;
+import org.cactoos.func.Circuit;
+import org.cactoos.func.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CircuitBreaker}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CircuitBreakerTest {
+
+    @Test
+    void returnsValueWhenClosed() {
+        new Assertion<>(
+            "Must return the value",
+            new CircuitBreaker<>(() -> 1, 5, 0.5d, Duration.ofSeconds(1L)),
+            new HasValue<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenOpen() throws Exception {
+        final Circuit circuit = new Circuit(1, 1.0d, Duration.ofMinutes(1L));
+        new ScalarWithFallback<>(
+            new CircuitBreaker<Integer>(
+                () -> {
+                    throw new IOException("Down");
+                },
+                circuit
+            ),
+            new Fallback.From<>(IOException.class, ex -> 0)
+        ).value();
+        new Assertion<>(
+            "Must reject without calling the origin",
+            () -> new CircuitBreaker<>(() -> 1, circuit).value(),
+            new Throws<>("The circuit is open", CircuitOpenException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Expiring}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExpiringTest {
+
+    @Test
+    void recalculatesAfterExpiry() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            loads::incrementAndGet,
+            Duration.ofNanos(100L),
+            Duration.ofNanos(Long.MAX_VALUE),
+            clock::get
+        );
+        scalar.value();
+        clock.set(50L);
+        new Assertion<>(
+            "must compute value only once before expiry",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+        clock.set(150L);
+        new Assertion<>(
+            "must compute value again after expiry",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link OrInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class OrInThreadsTest {
+
+    @Test
+    void oneTrue() {
+        new Assertion<>(
+            "Must be true when one of the scalars is",
+            new OrInThreads(
+                new Constant<>(false),
+                new Constant<>(true),
+                new Constant<>(false)
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void allFalse() {
+        new Assertion<>(
+            "Must be false when all scalars are",
+            new OrInThreads(
+                new Constant<>(false),
+                new Constant<>(false)
+            ),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() {
+        new Assertion<>(
+            "Must be false for empty iterable",
+            new OrInThreads(new ListOf<Scalar<Boolean>>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithFunc() {
+        new Assertion<>(
+            "Must apply the func to every item",
+            new OrInThreads(
+                input -> input > 2,
+                1, 2, 3
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void completesOnFirstTrue() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must not wait for the slow scalar",
+                new OrInThreads(
+                    service,
+                    () -> {
+                        started.countDown();
+                        try {
+                            TimeUnit.MINUTES.sleep(1L);
+                        } catch (final InterruptedException ex) {
+                            interrupted.countDown();
+                        }
+                        return false;
+                    },
+                    () -> started.await(1L, TimeUnit.MINUTES)
+                ).value(),
+                new IsEqual<>(true)
+            ).affirm();
+            new Assertion<>(
+                "Must interrupt the slow scalar",
+                interrupted.await(1L, TimeUnit.MINUTES),
+                new IsEqual<>(true)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+}
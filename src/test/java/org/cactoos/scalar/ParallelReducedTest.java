@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
+import org.cactoos.iterable.Repeated;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ParallelReduced}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ParallelReducedTest {
+
+    @Test
+    void sumsLikeFolded() throws Exception {
+        final List<Long> numbers = new ArrayList<>(100_000);
+        for (long idx = 0L; idx < 100_000L; ++idx) {
+            numbers.add(idx);
+        }
+        new Assertion<>(
+            "Must sum the same way as a sequential fold",
+            new ParallelReduced<>(0L, Long::sum, 100, numbers),
+            new HasValue<>(new Folded<>(0L, Long::sum, numbers).value())
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfItems() {
+        new Assertion<>(
+            "Must combine the parts in the order of the items",
+            new ParallelReduced<>(
+                "", String::concat, 1,
+                new ListOf<>("a", "b", "c", "d", "e", "f", "g")
+            ),
+            new HasValue<>("abcdefg")
+        ).affirm();
+    }
+
+    @Test
+    void reducesArray() {
+        new Assertion<>(
+            "Must reduce an array",
+            new ParallelReduced<>(0, Math::max, 3, 9, 4, 7),
+            new HasValue<>(9)
+        ).affirm();
+    }
+
+    @Test
+    void splitsIterableWithoutSize() throws Exception {
+        new Assertion<>(
+            "Must reduce an iterable, which is split in batches",
+            new ParallelReduced<>(
+                "", String::concat, 10,
+                new Mapped<>(idx -> "x", new Repeated<>(5000, 0))
+            ).value().length(),
+            new IsEqual<>(5000)
+        ).affirm();
+    }
+
+    @Test
+    void returnsIdentityForEmptyItems() {
+        new Assertion<>(
+            "Must return the identity for no items",
+            new ParallelReduced<>(1, Math::multiplyExact, Collections.emptyList()),
+            new HasValue<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void reducesSmallItemsInCurrentThread() throws Exception {
+        final Thread current = Thread.currentThread();
+        final AtomicBoolean elsewhere = new AtomicBoolean();
+        new ParallelReduced<Integer>(
+            0,
+            (first, second) -> {
+                elsewhere.compareAndSet(false, Thread.currentThread() != current);
+                return first + second;
+            },
+            new ListOf<>(new RangeOf<>(1, 50, idx -> idx + 1))
+        ).value();
+        new Assertion<>(
+            "Must not use the pool for a small list",
+            elsewhere.get(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void throwsExceptionOfFunction() {
+        new Assertion<>(
+            "Must throw the exception of the function",
+            new ParallelReduced<Integer>(
+                0,
+                (first, second) -> {
+                    if (second == 777) {
+                        throw new IOException("Broken item");
+                    }
+                    return first + second;
+                },
+                10,
+                new ListOf<>(new RangeOf<>(1, 1000, idx -> idx + 1))
+            )::value,
+            new Throws<>("Broken item", IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveThreshold() {
+        new Assertion<>(
+            "Must reject zero threshold",
+            new ParallelReduced<>(0, Integer::sum, 0, new ListOf<>(1, 2))::value,
+            new Throws<>(
+                "The threshold must be positive: 0",
+                IllegalArgumentException.class
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Refreshing}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RefreshingTest {
+
+    @Test
+    void servesOldValueWhileRefreshing() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        final Scalar<Integer> scalar = new Refreshing<>(
+            loads::incrementAndGet,
+            Duration.ofNanos(10L),
+            exec,
+            clock::get
+        );
+        scalar.value();
+        clock.set(20L);
+        new Assertion<>(
+            "must return old value when refresh starts",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+        exec.shutdown();
+        exec.awaitTermination(1L, TimeUnit.MINUTES);
+        new Assertion<>(
+            "must return refreshed value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void keepsOldValueWhenRefreshFails() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        final Scalar<Integer> scalar = new Refreshing<>(
+            () -> {
+                if (loads.incrementAndGet() > 1) {
+                    throw new IllegalStateException("Refresh fails");
+                }
+                return loads.get();
+            },
+            Duration.ofNanos(10L),
+            exec,
+            clock::get
+        );
+        scalar.value();
+        clock.set(20L);
+        scalar.value();
+        exec.shutdown();
+        exec.awaitTermination(1L, TimeUnit.MINUTES);
+        new Assertion<>(
+            "must keep old value after failed refresh",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void backsOffAfterFailedRefresh() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final Scalar<Integer> scalar = new Refreshing<>(
+                () -> {
+                    if (loads.incrementAndGet() > 1) {
+                        throw new IllegalStateException("Refresh fails");
+                    }
+                    return loads.get();
+                },
+                Duration.ofNanos(10L),
+                exec,
+                clock::get
+            );
+            scalar.value();
+            clock.set(20L);
+            scalar.value();
+            exec.submit(() -> loads.get()).get();
+            clock.set(25L);
+            scalar.value();
+            exec.submit(() -> loads.get()).get();
+            new Assertion<>(
+                "must not refresh again within a period after failure",
+                loads.get(),
+                new IsEqual<>(2)
+            ).affirm();
+            clock.set(30L);
+            scalar.value();
+            exec.submit(() -> loads.get()).get();
+            new Assertion<>(
+                "must refresh again after one more period",
+                loads.get(),
+                new IsEqual<>(3)
+            ).affirm();
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    @Test
+    void throwsFailureWhenValueIsTooStale() throws Exception {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            final Scalar<Integer> scalar = new Refreshing<>(
+                () -> {
+                    if (loads.incrementAndGet() > 1) {
+                        throw new IllegalStateException("Refresh fails");
+                    }
+                    return loads.get();
+                },
+                Duration.ofNanos(10L),
+                Duration.ofNanos(30L),
+                exec,
+                clock::get
+            );
+            scalar.value();
+            clock.set(20L);
+            scalar.value();
+            exec.submit(() -> loads.get()).get();
+            new Assertion<>(
+                "must serve old value while it is not too stale",
+                scalar.value(),
+                new IsEqual<>(1)
+            ).affirm();
+            clock.set(30L);
+            new Assertion<>(
+                "must throw the failure once the value is too stale",
+                scalar::value,
+                new Throws<>("Refresh fails", IllegalStateException.class)
+            ).affirm();
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+}
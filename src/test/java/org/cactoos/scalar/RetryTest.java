@@ -11,6 +11,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.Backoff;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -107,4 +108,25 @@ final class RetryTest {
             ).affirm();
         }
     }
+
+    @Test
+    void runsScalarWithExponentialBackoff() {
+        final AtomicInteger tries = new AtomicInteger(0);
+        new Assertion<>(
+            "Must retry with backoff",
+            new Retry<>(
+                () -> {
+                    if (tries.getAndIncrement() < 2) {
+                        throw new IllegalArgumentException("Not done yet");
+                    }
+                    return 0;
+                },
+                3,
+                new Backoff.Exponential(
+                    Duration.ofMillis(1L), Duration.ofMillis(2L)
+                )
+            ),
+            new HasValue<>(0)
+        ).affirm();
+    }
 }
@@ -6,7 +6,10 @@ package org.cactoos.scalar;
 
 import java.security.SecureRandom;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 import org.cactoos.list.ListOf;
+import org.hamcrest.collection.IsMapContaining;
+import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -53,4 +56,42 @@ final class SolidTest {
         ).affirm();
     }
 
+    @Test
+    void collectsStatistics() throws Exception {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        final Scalar<Integer> scalar = new Solid<>(() -> 1, stats);
+        scalar.value();
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "must count one miss and two hits",
+            stats.snapshot(),
+            new AllOf<>(
+                new IsMapContaining<>(
+                    new IsEqual<>("misses"), new IsEqual<>(1L)
+                ),
+                new IsMapContaining<>(
+                    new IsEqual<>("hits"), new IsEqual<>(2L)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void reportsSizeOnceLoaded() throws Exception {
+        final CacheStats.Counted stats = new CacheStats.Counted();
+        final Scalar<Integer> scalar = new Solid<>(() -> 1, stats);
+        new Assertion<>(
+            "must report no values before the first load",
+            stats.snapshot(),
+            new IsMapContaining<>(new IsEqual<>("size"), new IsEqual<>(0L))
+        ).affirm();
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "must report one value after loads",
+            stats.snapshot(),
+            new IsMapContaining<>(new IsEqual<>("size"), new IsEqual<>(1L))
+        ).affirm();
+    }
 }